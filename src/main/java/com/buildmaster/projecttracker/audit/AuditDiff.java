@@ -0,0 +1,108 @@
+package com.buildmaster.projecttracker.audit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Builds UPDATE audit payloads holding only the fields that changed, as {@code <field>.before} and
+ * {@code <field>.after} entries, and folds such payloads back into full snapshots.
+ * <p>
+ * The previous values come from the state Hibernate loaded the entity with, which it keeps for dirty
+ * checking anyway, so no extra query is needed. That state is replaced on flush, so
+ * {@link #changes} must run after the entity was saved but before anything flushes the session.
+ * Associations are recorded by id under {@code <field>Id}, matching the full snapshot payloads.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditDiff {
+
+    public static final String BEFORE = ".before";
+    public static final String AFTER = ".after";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Compares a managed entity with the state it was loaded with.
+     * @param entity The entity, saved but not yet flushed.
+     * @param fields The properties to compare.
+     * @return The changed fields, or empty if the entity is not managed by the current session.
+     */
+    public Optional<Map<String, String>> changes(Object entity, String... fields) {
+        EntityEntry entry = entityManager.unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal().getEntry(entity);
+        if (entry == null || entry.getLoadedState() == null) {
+            return Optional.empty();
+        }
+        EntityPersister persister = entry.getPersister();
+        Object[] loaded = entry.getLoadedState();
+        Object[] current = persister.getValues(entity);
+        Map<String, String> payload = new HashMap<>();
+        for (String field : fields) {
+            int index = persister.getPropertyIndex(field);
+            Type type = persister.getPropertyTypes()[index];
+            if (type.isEntityType()) {
+                put(payload, field + "Id", idOf(loaded[index]), idOf(current[index]));
+            } else {
+                put(payload, field, loaded[index], current[index]);
+            }
+        }
+        return Optional.of(payload);
+    }
+
+    /**
+     * Adds a field to a diff payload if its value changed.
+     */
+    public static void put(Map<String, String> payload, String field, Object before, Object after) {
+        String previous = before != null ? before.toString() : null;
+        String next = after != null ? after.toString() : null;
+        if (!Objects.equals(previous, next)) {
+            payload.put(field + BEFORE, previous);
+            payload.put(field + AFTER, next);
+        }
+    }
+
+    /**
+     * @return Whether the payload is a diff rather than a full snapshot.
+     */
+    public static boolean isDiff(Map<String, String> payload) {
+        return payload.keySet().stream().anyMatch(key -> key.endsWith(AFTER));
+    }
+
+    /**
+     * Applies the after values of a diff to a snapshot. A changed {@code <name>Id} drops the
+     * {@code <name>Name} it had, unless the diff records the new name too.
+     * @param snapshot The snapshot to update in place.
+     * @param diff The diff payload.
+     */
+    public static void apply(Map<String, String> snapshot, Map<String, String> diff) {
+        diff.forEach((key, value) -> {
+            if (!key.endsWith(AFTER)) {
+                return;
+            }
+            String field = key.substring(0, key.length() - AFTER.length());
+            snapshot.put(field, value);
+            if (field.endsWith("Id") && !diff.containsKey(field.substring(0, field.length() - 2) + "Name" + AFTER)) {
+                snapshot.remove(field.substring(0, field.length() - 2) + "Name");
+            }
+        });
+    }
+
+    private Object idOf(Object entity) {
+        if (entity == null) {
+            return null;
+        }
+        PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        return util.getIdentifier(entity);
+    }
+}
@@ -4,13 +4,36 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.annotation.Id;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
+/**
+ * One audit event in the {@code audit_logs} collection. Every index ends in {@code timestamp, _id}
+ * descending, the order audit queries page in, so a filtered listing reads its page straight off
+ * the index without sorting or counting. The failure indexes only cover {@code success: false}
+ * documents, which keeps them small on a collection that is almost entirely successes.
+ * <p>
+ * {@code rolledUp} is false until {@link AuditRollups} has added the event to its counters, and
+ * {@code rollupBatch} names the rollup batch that claimed it meanwhile, with the claiming instance in
+ * {@code rollupOwner} and the claim time in {@code rollupClaimedAt}. The pending index only covers
+ * events not yet counted.
+ */
 @Document(collection = "audit_logs")
+@CompoundIndexes({
+        @CompoundIndex(name = "timeline", def = "{'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "entity_timeline", def = "{'entityType': 1, 'entityId': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "action_timeline", def = "{'actionType': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "user_timeline", def = "{'userId': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "username_timeline", def = "{'username': 1, 'timestamp': -1, '_id': -1}"),
+        @CompoundIndex(name = "failure_timeline", def = "{'success': 1, 'timestamp': -1, '_id': -1}", partialFilter = "{'success': false}"),
+        @CompoundIndex(name = "ip_failure_timeline", def = "{'ipAddress': 1, 'timestamp': -1, '_id': -1}", partialFilter = "{'success': false}"),
+        @CompoundIndex(name = "rollup_pending", def = "{'rolledUp': 1, 'rollupBatch': 1}", partialFilter = "{'rolledUp': false}")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -31,6 +54,10 @@ public class AuditLog {
     private Boolean success = true;
     private String errorMessage;
     private Map<String, String> payload;
+    private Boolean rolledUp;
+    private String rollupBatch;
+    private String rollupOwner;
+    private LocalDateTime rollupClaimedAt;
 
     public AuditLog(String actionType, String entityType, String entityId, String userId, Map<String, String> payload) {
         this.actionType = actionType;
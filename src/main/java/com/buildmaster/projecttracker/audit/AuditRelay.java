@@ -0,0 +1,153 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository;
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository.OutboxBacklog;
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copies audit logs from the {@code audit_outbox} table to the Mongo {@code audit_logs} collection.
+ * Each batch of up to {@code app.audit.relay.batch-size} events is locked in outbox order, written
+ * with one unordered bulk insert and deleted in the same Postgres transaction. Delivery is at least once:
+ * if the delete does not commit, the batch is sent again, and because every event is stored under its
+ * outbox event id the second insert fails with a duplicate key for the events already stored, which is
+ * ignored. Stored events are never overwritten, so a redelivery cannot reset their {@code rolledUp} flag.
+ * While Mongo is down the events stay in the outbox and {@code audit.outbox.lag} grows.
+ * <p>
+ * Events are stored with {@code rolledUp} false and counted later by {@link AuditRollups#rollUp()}.
+ */
+@Component
+@Slf4j
+public class AuditRelay {
+
+    /**
+     * The Mongo error code of a write rejected by a unique index.
+     */
+    static final int DUPLICATE_KEY = 11000;
+
+    private final AuditOutboxRepository outboxRepository;
+    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Timer relayLatency;
+    private final Timer deliveryLatency;
+    private final DistributionSummary batchSizes;
+    private final Counter relayed;
+    private final Counter failures;
+
+    public AuditRelay(AuditOutboxRepository outboxRepository,
+                      MongoTemplate mongoTemplate,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${app.audit.relay.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        Gauge.builder("audit.outbox.pending", pending, AtomicLong::get)
+                .description("Audit logs in the outbox not yet copied to Mongo")
+                .register(meterRegistry);
+        Gauge.builder("audit.outbox.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest audit log not yet copied to Mongo")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.relayLatency = Timer.builder("audit.relay.latency")
+                .description("Duration of relaying one outbox batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("audit.delivery.latency")
+                .description("Time from outbox insert until the audit log is stored in Mongo")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("audit.relay.batch.size").register(meterRegistry);
+        this.relayed = Counter.builder("audit.relayed").register(meterRegistry);
+        this.failures = Counter.builder("audit.relay.failures").register(meterRegistry);
+    }
+
+    /**
+     * Relays batches until the outbox is empty or a batch fails, then refreshes the backlog gauges.
+     * @return The number of audit logs copied to Mongo.
+     */
+    @Scheduled(fixedDelayString = "${app.audit.relay.interval:1s}")
+    public int relay() {
+        int total = 0;
+        try {
+            while (true) {
+                Integer sent = transactionTemplate.execute(status -> relayBatch());
+                total += sent != null ? sent : 0;
+                if (sent == null || sent < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Audit relay stopped after {} audit logs, retrying next run: {}", total, e.getMessage());
+        }
+        refreshBacklog();
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        relayLatency.record(() -> {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class);
+            for (OutboxEvent event : events) {
+                AuditLog auditLog = event.auditLog();
+                auditLog.setId(event.eventId().toString());
+                auditLog.setRolledUp(false);
+                bulk.insert(auditLog);
+            }
+            try {
+                bulk.execute();
+            } catch (BulkOperationException e) {
+                if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                    throw e;
+                }
+                log.debug("{} audit logs were already stored", e.getErrors().size());
+            }
+        });
+        outboxRepository.delete(events.stream().map(OutboxEvent::id).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> deliveryLatency.record(Duration.between(event.createdAt(), now)));
+        batchSizes.record(events.size());
+        relayed.increment(events.size());
+        return events.size();
+    }
+
+    private void refreshBacklog() {
+        try {
+            OutboxBacklog backlog = outboxRepository.backlog();
+            pending.set(backlog.pending());
+            lagMillis.set(backlog.oldest() == null ? 0
+                    : Math.max(0, Duration.between(backlog.oldest(), LocalDateTime.now()).toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Could not read the audit outbox backlog: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.dto.AuditTrendPoint;
+import com.buildmaster.projecttracker.enums.RollupGranularity;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Counts audit events per minute, hour and day, keyed by entity type, action type, user id and success,
+ * in one collection per {@link RollupGranularity}. Trend queries read a few hundred counter documents
+ * instead of the raw events.
+ * <p>
+ * {@link #rollUp()} counts the events {@link AuditRelay} stored with {@code rolledUp} false, up to
+ * {@code app.audit.rollup.batch-size} at a time. A batch is first claimed by writing its id, this instance
+ * and the time to the events' {@code rollupBatch}, {@code rollupOwner} and {@code rollupClaimedAt}, then
+ * added with one bulk upsert per granularity that increments a counter only if the counter's
+ * {@code batches} does not list the batch yet and adds it there, and finally the events are marked rolled
+ * up. A batch interrupted at any step is resumed under the same id, and replaying its increments changes
+ * nothing, so every event is counted exactly once. Counters remember the last {@value #REMEMBERED_BATCHES}
+ * batches that touched them, far more than can pass before a resume.
+ * <p>
+ * Another instance may still be claiming a batch, and counting part of it would mark the rest as counted.
+ * An instance therefore resumes its own batches right away but another's only once the claim is older
+ * than {@code app.audit.rollup.claim-lease}, by which time that instance has finished or died.
+ * <p>
+ * Minute and hour counters expire after {@code app.audit.rollup.minute-retention} and
+ * {@code app.audit.rollup.hour-retention}; day counters are kept. Raw events expire after
+ * {@code app.audit.retention} when it is set, since the trends no longer need them.
+ */
+@Component
+@Slf4j
+public class AuditRollups {
+
+    /**
+     * The most buckets one trend query may span, which keeps minute queries to about a week.
+     */
+    static final int MAX_BUCKETS = 10_000;
+
+    /**
+     * How many of the latest rollup batches a counter lists in {@code batches}.
+     */
+    static final int REMEMBERED_BATCHES = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final Duration claimLease;
+    private final Duration rawRetention;
+    private final Map<RollupGranularity, Duration> retention;
+
+    public AuditRollups(MongoTemplate mongoTemplate,
+                        @Value("${app.audit.rollup.batch-size:500}") int batchSize,
+                        @Value("${app.audit.rollup.claim-lease:5m}") Duration claimLease,
+                        @Value("${app.audit.retention:0}") Duration rawRetention,
+                        @Value("${app.audit.rollup.minute-retention:14d}") Duration minuteRetention,
+                        @Value("${app.audit.rollup.hour-retention:400d}") Duration hourRetention) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+        this.claimLease = claimLease;
+        this.rawRetention = rawRetention;
+        this.retention = Map.of(
+                RollupGranularity.MINUTE, minuteRetention,
+                RollupGranularity.HOUR, hourRetention,
+                RollupGranularity.DAY, Duration.ZERO);
+    }
+
+    /**
+     * Creates the counter key indexes and the TTL indexes. A TTL index whose retention changed must be
+     * dropped by hand first, so that case is logged rather than failing startup.
+     */
+    @PostConstruct
+    public void createIndexes() {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            IndexOperations indexes = mongoTemplate.indexOps(granularity.getCollection());
+            indexes.ensureIndex(new Index()
+                    .on("entityType", Sort.Direction.ASC)
+                    .on("actionType", Sort.Direction.ASC)
+                    .on("bucket", Sort.Direction.ASC)
+                    .on("userId", Sort.Direction.ASC)
+                    .on("success", Sort.Direction.ASC)
+                    .named("rollup_key").unique());
+            indexes.ensureIndex(new Index()
+                    .on("userId", Sort.Direction.ASC)
+                    .on("bucket", Sort.Direction.ASC)
+                    .named("user_bucket"));
+            expireAfter(indexes, "bucket", retention.get(granularity));
+        }
+        expireAfter(mongoTemplate.indexOps(AuditLog.class), "timestamp", rawRetention);
+    }
+
+    private void expireAfter(IndexOperations indexes, String field, Duration retention) {
+        if (retention.isZero()) {
+            return;
+        }
+        try {
+            indexes.ensureIndex(new Index().on(field, Sort.Direction.ASC).expire(retention).named("retention"));
+        } catch (RuntimeException e) {
+            log.warn("Could not create the {} retention index with a TTL of {}: {}", field, retention, e.getMessage());
+        }
+    }
+
+    /**
+     * Counts batches of events not yet rolled up until none are left or a batch fails.
+     * @return The number of events added to the counters.
+     */
+    @Scheduled(fixedDelayString = "${app.audit.rollup.interval:1s}")
+    public int rollUp() {
+        int total = 0;
+        try {
+            while (true) {
+                int counted = rollUpBatch();
+                total += counted;
+                if (counted < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Audit rollup stopped after {} audit logs, retrying next run: {}", total, e.getMessage());
+        }
+        return total;
+    }
+
+    private int rollUpBatch() {
+        String batch = claimBatch();
+        if (batch == null) {
+            return 0;
+        }
+        List<AuditLog> auditLogs = mongoTemplate.find(inBatch(batch), AuditLog.class);
+        Map<RollupGranularity, Map<Key, Long>> counts = new EnumMap<>(RollupGranularity.class);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            counts.put(granularity, auditLogs.stream()
+                    .collect(Collectors.groupingBy(auditLog -> Key.of(granularity, auditLog), Collectors.counting())));
+        }
+        counts.forEach((granularity, counters) -> increment(granularity, counters, batch));
+        mongoTemplate.updateMulti(inBatch(batch), new Update().set("rolledUp", true)
+                .unset("rollupBatch").unset("rollupOwner").unset("rollupClaimedAt"), AuditLog.class);
+        return auditLogs.size();
+    }
+
+    /**
+     * @return The id of an unfinished batch of this instance or with an expired claim, else of a newly
+     * claimed batch, or null if every event is rolled up or claimed by another running instance.
+     */
+    private String claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        AuditLog interrupted = mongoTemplate.findOne(Query.query(where("rolledUp").is(false).and("rollupBatch").ne(null)
+                .orOperator(where("rollupOwner").is(owner), where("rollupClaimedAt").lt(now.minus(claimLease)))),
+                AuditLog.class);
+        if (interrupted != null) {
+            return interrupted.getRollupBatch();
+        }
+        Query unclaimed = Query.query(where("rolledUp").is(false).and("rollupBatch").is(null)).limit(batchSize);
+        unclaimed.fields().include("_id");
+        List<String> ids = mongoTemplate.find(unclaimed, AuditLog.class).stream().map(AuditLog::getId).toList();
+        if (ids.isEmpty()) {
+            return null;
+        }
+        String batch = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(Query.query(where("_id").in(ids).and("rollupBatch").is(null)),
+                Update.update("rollupBatch", batch).set("rollupOwner", owner).set("rollupClaimedAt", now),
+                AuditLog.class);
+        return batch;
+    }
+
+    private static Query inBatch(String batch) {
+        return Query.query(where("rolledUp").is(false).and("rollupBatch").is(batch));
+    }
+
+    /**
+     * Adds the batch's counts to the counters that do not include it yet. An upsert that matches no
+     * counter inserts one, which fails with a duplicate key if the counter exists but already lists the
+     * batch, or if a concurrent run created it first. Such upserts are retried once; a second duplicate
+     * key means the counter already includes the batch.
+     */
+    private void increment(RollupGranularity granularity, Map<Key, Long> counters, String batch) {
+        if (counters.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Key, Long>> entries = List.copyOf(counters.entrySet());
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, granularity.getCollection());
+        entries.forEach(entry ->
+                bulk.upsert(counterQuery(entry.getKey(), batch), counterUpdate(entry.getValue(), batch)));
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != AuditRelay.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            for (BulkWriteError error : e.getErrors()) {
+                Map.Entry<Key, Long> entry = entries.get(error.getIndex());
+                try {
+                    mongoTemplate.upsert(counterQuery(entry.getKey(), batch), counterUpdate(entry.getValue(), batch),
+                            granularity.getCollection());
+                } catch (DuplicateKeyException alreadyCounted) {
+                    log.debug("Counter {} already includes rollup batch {}", entry.getKey(), batch);
+                }
+            }
+        }
+    }
+
+    private static Query counterQuery(Key key, String batch) {
+        return Query.query(key.criteria().and("batches").ne(batch));
+    }
+
+    private static Update counterUpdate(long count, String batch) {
+        Update update = new Update().inc("count", count);
+        update.push("batches").slice(-REMEMBERED_BATCHES).each(batch);
+        return update;
+    }
+
+    /**
+     * Sums the counters matching the filters per bucket.
+     * @param from The start of the range, rounded down to a bucket.
+     * @param to The end of the range, exclusive.
+     * @return One point per bucket that has events, oldest first.
+     * @throws IllegalArgumentException if the range is inverted or spans more than {@link #MAX_BUCKETS} buckets.
+     */
+    public List<AuditTrendPoint> trend(RollupGranularity granularity, String entityType, String actionType,
+                                       String userId, Boolean success, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (granularity.getUnit().between(granularity.bucketOf(from), to) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("The range spans more than " + MAX_BUCKETS + " "
+                    + granularity.name().toLowerCase(Locale.ROOT) + " buckets, use a coarser granularity");
+        }
+        Criteria criteria = where("bucket").gte(granularity.bucketOf(from)).lt(to);
+        addEquals(criteria, "entityType", entityType);
+        addEquals(criteria, "actionType", actionType);
+        addEquals(criteria, "userId", userId);
+        addEquals(criteria, "success", success);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.group("bucket").sum("count").as("count"),
+                Aggregation.sort(Sort.Direction.ASC, "_id"),
+                Aggregation.project("count").and("bucket").previousOperation());
+        return mongoTemplate.aggregate(aggregation, granularity.getCollection(), AuditTrendPoint.class)
+                .getMappedResults();
+    }
+
+    private static void addEquals(Criteria criteria, String field, Object value) {
+        if (value != null) {
+            criteria.and(field).is(value);
+        }
+    }
+
+    /**
+     * One counter: a bucket and the dimensions events are counted by.
+     */
+    record Key(LocalDateTime bucket, String entityType, String actionType, String userId, Boolean success) {
+
+        static Key of(RollupGranularity granularity, AuditLog auditLog) {
+            LocalDateTime timestamp = auditLog.getTimestamp() != null ? auditLog.getTimestamp() : LocalDateTime.now();
+            return new Key(granularity.bucketOf(timestamp), auditLog.getEntityType(), auditLog.getActionType(),
+                    auditLog.getUserId(), auditLog.getSuccess());
+        }
+
+        Criteria criteria() {
+            return where("bucket").is(bucket)
+                    .and("entityType").is(entityType)
+                    .and("actionType").is(actionType)
+                    .and("userId").is(userId)
+                    .and("success").is(success);
+        }
+    }
+}
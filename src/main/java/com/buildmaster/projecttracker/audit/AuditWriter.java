@@ -0,0 +1,48 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records audit logs in the {@code audit_outbox} table in the caller's transaction, so an audit log
+ * is stored exactly when the change it describes commits. {@link AuditRelay} copies them to Mongo
+ * afterwards, which keeps Mongo off the request path. Outside a transaction the insert commits on its own.
+ */
+@Component
+public class AuditWriter {
+
+    private final AuditOutboxRepository outboxRepository;
+    private final Timer writeLatency;
+
+    public AuditWriter(AuditOutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.writeLatency = Timer.builder("audit.write.latency")
+                .description("Duration of one outbox insert")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Adds an audit log to the outbox in the current transaction.
+     * @param auditLog The entry to store.
+     */
+    public void write(AuditLog auditLog) {
+        writeAll(List.of(auditLog));
+    }
+
+    /**
+     * Adds audit logs to the outbox in the current transaction, with one batched insert.
+     * @param auditLogs The entries to store.
+     */
+    public void writeAll(Collection<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        writeLatency.record(() -> outboxRepository.append(auditLogs));
+    }
+}
@@ -0,0 +1,101 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Two-way index between cache keys and the dependency tags they were registered under.
+ * Lets a write evict only the entries that depend on the rows it touched instead of clearing the cache.
+ * <p>
+ * Every invalidation also bumps a generation counter for its tags, hashed into a fixed number of stripes,
+ * so a loader can tell whether the tags of its key were invalidated while it was loading.
+ */
+public class CacheDependencyIndex {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CacheDependencyResolver resolver;
+    private final ConcurrentHashMap<String, Set<Object>> keysByTag = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Set<String>> tagsByKey = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong clears = new AtomicLong();
+
+    public CacheDependencyIndex(CacheDependencyResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    public void register(Object key) {
+        Set<String> tags = resolver.dependenciesOf(key);
+        if (tags.isEmpty()) {
+            return;
+        }
+        tagsByKey.put(key, tags);
+        for (String tag : tags) {
+            keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public void forget(Object key) {
+        Set<String> tags = tagsByKey.remove(key);
+        if (tags == null) {
+            return;
+        }
+        for (String tag : tags) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * Removes and returns every key registered under any of the given tags.
+     * @param tags The dependency tags that were invalidated.
+     * @return The keys that must be evicted from the cache.
+     */
+    public Set<Object> removeDependents(Collection<String> tags) {
+        tags.forEach(tag -> generations.incrementAndGet(stripe(tag)));
+        Set<Object> dependents = new HashSet<>();
+        for (String tag : tags) {
+            Set<Object> keys = keysByTag.remove(tag);
+            if (keys != null) {
+                dependents.addAll(keys);
+            }
+        }
+        dependents.forEach(this::forget);
+        return dependents;
+    }
+
+    public void clear() {
+        clears.incrementAndGet();
+        keysByTag.clear();
+        tagsByKey.clear();
+    }
+
+    /**
+     * Reads the generation of a key's tags. It changes whenever one of the tags, or a tag sharing
+     * a stripe with one, is invalidated, so comparing two reads may report an invalidation that did not
+     * concern the key but never misses one that did.
+     * @param key The cache key.
+     * @return A value to compare with a later read.
+     */
+    public long generation(Object key) {
+        long generation = clears.get();
+        for (String tag : resolver.dependenciesOf(key)) {
+            generation += generations.get(stripe(tag));
+        }
+        return generation;
+    }
+
+    private static int stripe(String tag) {
+        return Math.floorMod(tag.hashCode(), GENERATION_STRIPES);
+    }
+
+    public int size() {
+        return tagsByKey.size();
+    }
+}
@@ -0,0 +1,16 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Derives the dependency tags of a cache key, e.g. {@code "project:5"} for a cached
+ * page of project 5's tasks. Implementations are picked up by {@code CacheConfig}
+ * and attach a {@link CacheDependencyIndex} to each cache they name.
+ */
+public interface CacheDependencyResolver {
+
+    Collection<String> cacheNames();
+
+    Set<String> dependenciesOf(Object key);
+}
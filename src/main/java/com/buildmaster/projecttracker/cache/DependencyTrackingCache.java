@@ -0,0 +1,156 @@
+package com.buildmaster.projecttracker.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache decorator that records every stored key in a {@link CacheDependencyIndex}
+ * so writes can evict by dependency tag with {@link #evictDependents(Collection)}.
+ * Synchronized lookups ({@code @Cacheable(sync = true)}) are single-flight through Caffeine's
+ * per-key compute; callers that were served by another caller's load are counted.
+ * <p>
+ * A key is registered after its value is stored, so an eviction running while the value loads could
+ * miss it. Each store therefore compares the generation of the key's tags from before the load with the
+ * one after registering, and evicts the value again if they differ. For unsynchronized lookups the load
+ * starts at the miss, whose generation is kept for the {@link #put} that follows on the same thread.
+ */
+public class DependencyTrackingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheDependencyIndex index;
+    private final LongAdder coalescedLoads;
+    private final ThreadLocal<Miss> lastMiss = new ThreadLocal<>();
+
+    public DependencyTrackingCache(Cache delegate, CacheDependencyIndex index, LongAdder coalescedLoads) {
+        this.delegate = delegate;
+        this.index = index;
+        this.coalescedLoads = coalescedLoads;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            lastMiss.set(new Miss(key, index.generation(key)));
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long generation = index.generation(key);
+        boolean present = containsKey(key);
+        AtomicBoolean loadedHere = new AtomicBoolean();
+        T value = delegate.get(key, () -> {
+            loadedHere.set(true);
+            return valueLoader.call();
+        });
+        if (!present && !loadedHere.get()) {
+            coalescedLoads.increment();
+        }
+        registerUnlessInvalidated(key, generation);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Miss miss = lastMiss.get();
+        lastMiss.remove();
+        long generation = miss != null && miss.key().equals(key) ? miss.generation() : index.generation(key);
+        delegate.put(key, value);
+        registerUnlessInvalidated(key, generation);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        long generation = index.generation(key);
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        registerUnlessInvalidated(key, generation);
+        return existing;
+    }
+
+    /**
+     * Registers a stored key, or evicts it if its tags were invalidated since the given generation,
+     * in which case the stored value may predate the write.
+     */
+    private void registerUnlessInvalidated(Object key, long generation) {
+        index.register(key);
+        if (index.generation(key) != generation) {
+            evict(key);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        index.forget(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        index.forget(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        index.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        index.clear();
+        return delegate.invalidate();
+    }
+
+    /**
+     * Evicts every entry registered under any of the given dependency tags.
+     * @param tags The tags touched by a write, e.g. {@code "task:7"} and {@code "project:3"}.
+     * @return The number of entries evicted.
+     */
+    public int evictDependents(Collection<String> tags) {
+        Set<Object> keys = index.removeDependents(tags);
+        keys.forEach(delegate::evict);
+        return keys.size();
+    }
+
+    public CacheDependencyIndex getIndex() {
+        return index;
+    }
+
+    public long getCoalescedLoadCount() {
+        return coalescedLoads.sum();
+    }
+
+    private boolean containsKey(Object key) {
+        if (delegate.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return nativeCache.asMap().containsKey(key);
+        }
+        return delegate.get(key) != null;
+    }
+
+    private record Miss(Object key, long generation) {
+    }
+}
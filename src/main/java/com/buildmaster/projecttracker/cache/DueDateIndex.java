@@ -0,0 +1,169 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory index of open items by due date, working as a timing wheel with one slot per day.
+ * Items due today or later sit in their day's slot; {@link #advanceTo(LocalDate)} moves every slot
+ * before the new day into the overdue set, so reading the overdue items costs O(result).
+ * <p>
+ * Rebuilds count an item as drifted when its due date changed.
+ * @param <V> The view stored for each item.
+ */
+public class DueDateIndex<V> extends RebuildableIndex<DueDateIndex.Entry<V>> {
+
+    private final NavigableMap<LocalDate, Map<Long, V>> upcoming = new TreeMap<>();
+    private final NavigableMap<Long, V> overdue = new TreeMap<>();
+    private final Map<Long, LocalDate> dueDates = new HashMap<>();
+    private LocalDate today;
+
+    public DueDateIndex(LocalDate today) {
+        this.today = today;
+    }
+
+    /**
+     * Adds or moves an item.
+     * @param id The item id.
+     * @param dueDate The item's due date.
+     * @param view The view returned for the item while it is overdue.
+     */
+    public synchronized void put(Long id, LocalDate dueDate, V view) {
+        Entry<V> entry = new Entry<>(id, dueDate, view);
+        recordChange(id, entry);
+        removeInternal(id);
+        putInternal(entry);
+    }
+
+    /**
+     * Removes an item, e.g. when it is completed, loses its due date or is deleted.
+     * @param id The item id.
+     */
+    public synchronized void remove(Long id) {
+        recordChange(id, null);
+        removeInternal(id);
+    }
+
+    /**
+     * Removes every item whose view matches the predicate, e.g. all tasks of a deleted project.
+     * @param predicate The views to remove.
+     * @return The ids of the removed items.
+     */
+    public synchronized List<Long> removeIf(Predicate<V> predicate) {
+        List<Long> removed = new ArrayList<>();
+        for (Long id : matching(predicate)) {
+            recordChange(id, null);
+            removeInternal(id);
+            removed.add(id);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the ids of the items whose view matches the predicate.
+     * @param predicate The views to select.
+     * @return The matching ids.
+     */
+    public synchronized List<Long> matching(Predicate<V> predicate) {
+        List<Long> ids = new ArrayList<>();
+        overdue.forEach((id, view) -> {
+            if (predicate.test(view)) {
+                ids.add(id);
+            }
+        });
+        upcoming.values().forEach(slot -> slot.forEach((id, view) -> {
+            if (predicate.test(view)) {
+                ids.add(id);
+            }
+        }));
+        return ids;
+    }
+
+    /**
+     * Moves the wheel forward: every item due before the given day becomes overdue.
+     * @param day The new current day.
+     * @return The number of items that became overdue.
+     */
+    public synchronized int advanceTo(LocalDate day) {
+        if (!day.isAfter(today)) {
+            return 0;
+        }
+        today = day;
+        int moved = 0;
+        Iterator<Map<Long, V>> slots = upcoming.headMap(day, false).values().iterator();
+        while (slots.hasNext()) {
+            Map<Long, V> slot = slots.next();
+            overdue.putAll(slot);
+            moved += slot.size();
+            slots.remove();
+        }
+        return moved;
+    }
+
+    /**
+     * Returns the overdue items in id order.
+     * @return A copy of the overdue views.
+     */
+    public synchronized List<V> overdue() {
+        return new ArrayList<>(overdue.values());
+    }
+
+    public synchronized int size() {
+        return dueDates.size();
+    }
+
+    @Override
+    protected Map<Long, LocalDate> state() {
+        return dueDates;
+    }
+
+    @Override
+    protected void putInternal(Entry<V> entry) {
+        dueDates.put(entry.id(), entry.dueDate());
+        if (entry.dueDate().isBefore(today)) {
+            overdue.put(entry.id(), entry.view());
+        } else {
+            upcoming.computeIfAbsent(entry.dueDate(), day -> new HashMap<>()).put(entry.id(), entry.view());
+        }
+    }
+
+    @Override
+    protected void removeInternal(Long id) {
+        LocalDate dueDate = dueDates.remove(id);
+        if (dueDate == null) {
+            return;
+        }
+        if (overdue.remove(id) == null) {
+            Map<Long, V> slot = upcoming.get(dueDate);
+            if (slot != null) {
+                slot.remove(id);
+                if (slot.isEmpty()) {
+                    upcoming.remove(dueDate);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void clearInternal() {
+        upcoming.clear();
+        overdue.clear();
+        dueDates.clear();
+    }
+
+    /**
+     * An item as stored in the index.
+     * @param id The item id.
+     * @param dueDate The item's due date.
+     * @param view The item's view.
+     */
+    public record Entry<V>(Long id, LocalDate dueDate, V view) {
+    }
+}
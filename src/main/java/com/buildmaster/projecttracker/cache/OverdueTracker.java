@@ -0,0 +1,178 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.mapper.ProjectViewMapper;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.buildmaster.projecttracker.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the overdue tasks and projects in memory so the overdue endpoints answer without a range query.
+ * Writers report changed ids after commit and the tracker reloads just those rows; a daily tick
+ * rolls the due-date wheel over, and a periodic reconciliation rebuilds both indexes from the database.
+ * Until the first reconciliation has run, reads fall back to the database queries.
+ */
+@Component
+@Slf4j
+public class OverdueTracker {
+
+    private static final String UPDATE_FAILED =
+            "Overdue tracker update failed, the next reconciliation will correct it";
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DueDateIndex<TaskView> tasks = new DueDateIndex<>(LocalDate.now());
+    private final DueDateIndex<ProjectView> projects = new DueDateIndex<>(LocalDate.now());
+    private volatile boolean ready;
+
+    public OverdueTracker(TaskRepository taskRepository, ProjectRepository projectRepository) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    public List<TaskView> overdueTasks() {
+        if (!ready) {
+            return taskRepository.findOverdueViews(LocalDate.now());
+        }
+        tasks.advanceTo(LocalDate.now());
+        return tasks.overdue();
+    }
+
+    public List<ProjectView> overdueProjects() {
+        if (!ready) {
+            return projectRepository.findOverdueProjects(LocalDate.now()).stream()
+                    .map(ProjectViewMapper::toView)
+                    .toList();
+        }
+        projects.advanceTo(LocalDate.now());
+        return projects.overdue();
+    }
+
+    /**
+     * Reloads the given tasks once the current transaction commits.
+     * @param taskIds The ids of created or updated tasks.
+     */
+    public void tasksChanged(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        AfterCommit.runOrLog(() -> refreshTasks(ids), UPDATE_FAILED);
+    }
+
+    /**
+     * Drops the given tasks once the current transaction commits.
+     * @param taskIds The ids of deleted tasks.
+     */
+    public void tasksDeleted(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        AfterCommit.runOrLog(() -> ids.forEach(tasks::remove), UPDATE_FAILED);
+    }
+
+    /**
+     * Reloads the project, and the tracked tasks that carry its name, once the current transaction commits.
+     * @param projectId The id of the created or updated project.
+     */
+    public void projectChanged(Long projectId) {
+        AfterCommit.runOrLog(() -> {
+            projectRepository.findById(projectId).map(ProjectViewMapper::toView).ifPresentOrElse(
+                    this::trackProject,
+                    () -> projects.remove(projectId));
+            refreshTasks(tasks.matching(view -> projectId.equals(view.projectId())));
+        }, UPDATE_FAILED);
+    }
+
+    /**
+     * Drops the project and its tasks once the current transaction commits.
+     * @param projectId The id of the deleted project.
+     */
+    public void projectDeleted(Long projectId) {
+        AfterCommit.runOrLog(() -> {
+            projects.remove(projectId);
+            tasks.removeIf(view -> projectId.equals(view.projectId()));
+        }, UPDATE_FAILED);
+    }
+
+    /**
+     * Reloads the tracked tasks that carry the developer's name once the current transaction commits.
+     * @param developerId The id of the updated developer.
+     */
+    public void developerChanged(Long developerId) {
+        AfterCommit.runOrLog(() -> refreshTasks(tasks.matching(view -> developerId.equals(view.developerId()))),
+                UPDATE_FAILED);
+    }
+
+    /**
+     * Moves items whose due date has passed into the overdue sets. Reads also roll over lazily,
+     * so this only keeps the first read of the day cheap.
+     */
+    @Scheduled(cron = "${app.overdue.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        LocalDate today = LocalDate.now();
+        int movedTasks = tasks.advanceTo(today);
+        int movedProjects = projects.advanceTo(today);
+        log.info("Overdue rollover to {}: {} tasks and {} projects became overdue", today, movedTasks, movedProjects);
+    }
+
+    /**
+     * Rebuilds both indexes from the database, keeping writes that commit while the snapshot is read.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.overdue.reconcile-interval-ms:900000}",
+            initialDelayString = "${app.overdue.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        tasks.beginRebuild();
+        int taskDrift = tasks.completeRebuild(taskRepository.findOpenViewsWithDueDate().stream()
+                .map(view -> new DueDateIndex.Entry<>(view.id(), view.dueDate(), view))
+                .toList());
+        projects.beginRebuild();
+        int projectDrift = projects.completeRebuild(projectRepository.findOpenProjects().stream()
+                .map(ProjectViewMapper::toView)
+                .map(view -> new DueDateIndex.Entry<>(view.id(), view.deadline(), view))
+                .toList());
+        tasks.advanceTo(LocalDate.now());
+        projects.advanceTo(LocalDate.now());
+
+        if (ready && (taskDrift > 0 || projectDrift > 0)) {
+            log.warn("Overdue reconciliation corrected {} tasks and {} projects", taskDrift, projectDrift);
+        }
+        ready = true;
+        log.debug("Overdue tracker holds {} open tasks and {} open projects", tasks.size(), projects.size());
+    }
+
+    private void refreshTasks(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, TaskView> views = taskRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskView::id, Function.identity()));
+        for (Long id : ids) {
+            TaskView view = views.get(id);
+            if (view != null && view.dueDate() != null && view.status() != TaskStatus.COMPLETED) {
+                tasks.put(id, view.dueDate(), view);
+            } else {
+                tasks.remove(id);
+            }
+        }
+    }
+
+    private void trackProject(ProjectView view) {
+        if (view.deadline() != null && view.status() != ProjectStatus.COMPLETED) {
+            projects.put(view.id(), view.deadline(), view);
+        } else {
+            projects.remove(view.id());
+        }
+    }
+}
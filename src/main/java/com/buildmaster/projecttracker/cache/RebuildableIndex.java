@@ -0,0 +1,78 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base for in-memory indexes that a reconciliation rebuilds from a database snapshot without losing
+ * writes that land while the snapshot is being read: changes made between {@link #beginRebuild()}
+ * and {@link #completeRebuild(Collection)} are replayed on top of the snapshot.
+ * <p>
+ * Subclasses guard their state with {@code synchronized} methods and call {@link #recordChange}
+ * from every public mutation.
+ * @param <E> The entry stored for each item.
+ */
+public abstract class RebuildableIndex<E> {
+
+    private Map<Long, E> changedDuringRebuild;
+
+    /**
+     * Starts recording changes so they can be replayed over a snapshot read from now on.
+     */
+    public synchronized void beginRebuild() {
+        changedDuringRebuild = new LinkedHashMap<>();
+    }
+
+    /**
+     * Replaces the contents with the snapshot, then replays the changes made since {@link #beginRebuild()}.
+     * @param snapshot Every item, as read from the database.
+     * @return The number of items whose {@link #state()} differed from the snapshot before the rebuild.
+     */
+    public synchronized int completeRebuild(Collection<E> snapshot) {
+        Map<Long, E> changes = changedDuringRebuild != null ? changedDuringRebuild : Map.of();
+        changedDuringRebuild = null;
+
+        Map<Long, Object> previous = new HashMap<>(state());
+        clearInternal();
+        snapshot.forEach(this::putInternal);
+        changes.forEach((id, entry) -> {
+            removeInternal(id);
+            if (entry != null) {
+                putInternal(entry);
+            }
+        });
+
+        int drift = 0;
+        for (Map.Entry<Long, ?> current : state().entrySet()) {
+            if (!Objects.equals(current.getValue(), previous.remove(current.getKey()))) {
+                drift++;
+            }
+        }
+        return drift + previous.size();
+    }
+
+    /**
+     * Remembers a change for replay if a rebuild is in progress.
+     * @param id The item id.
+     * @param entry The new entry, or null if the item was removed.
+     */
+    protected void recordChange(Long id, E entry) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, entry);
+        }
+    }
+
+    /**
+     * @return The part of each item's state that counts as drift when a rebuild changes it, by id.
+     */
+    protected abstract Map<Long, ?> state();
+
+    protected abstract void putInternal(E entry);
+
+    protected abstract void removeInternal(Long id);
+
+    protected abstract void clearInternal();
+}
@@ -0,0 +1,15 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.Collection;
+
+/**
+ * Reloads a cached value from its key outside of the original caller. Caches named here
+ * that also configure {@code refresh-after-write} are refreshed in the background shortly
+ * before they expire, so hot entries never fall out of the cache under read load.
+ */
+public interface RefreshingCacheLoader {
+
+    Collection<String> cacheNames();
+
+    Object load(Object key);
+}
@@ -0,0 +1,187 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A boolean query over skill tags, e.g. {@code java AND (kafka OR rabbitmq) AND NOT php}.
+ * NOT binds tighter than AND, which binds tighter than OR; terms written side by side are ANDed.
+ * Keywords are case-insensitive and tags containing spaces are quoted: {@code "spring boot" AND aws}.
+ */
+public sealed interface SkillExpression {
+
+    int MAX_LENGTH = 500;
+
+    /**
+     * Evaluates the expression against the inverted index.
+     * @param postings Returns the developers carrying a tag, or null if none do. The bitmap is not modified.
+     * @param universe Every indexed developer, used to resolve NOT.
+     * @return A new bitmap of the matching developer ids.
+     */
+    BitSet evaluate(Function<String, BitSet> postings, BitSet universe);
+
+    record Tag(String name) implements SkillExpression {
+        @Override
+        public BitSet evaluate(Function<String, BitSet> postings, BitSet universe) {
+            BitSet developers = postings.apply(name);
+            return developers != null ? (BitSet) developers.clone() : new BitSet();
+        }
+    }
+
+    record And(SkillExpression left, SkillExpression right) implements SkillExpression {
+        @Override
+        public BitSet evaluate(Function<String, BitSet> postings, BitSet universe) {
+            BitSet result = left.evaluate(postings, universe);
+            if (!result.isEmpty()) {
+                result.and(right.evaluate(postings, universe));
+            }
+            return result;
+        }
+    }
+
+    record Or(SkillExpression left, SkillExpression right) implements SkillExpression {
+        @Override
+        public BitSet evaluate(Function<String, BitSet> postings, BitSet universe) {
+            BitSet result = left.evaluate(postings, universe);
+            result.or(right.evaluate(postings, universe));
+            return result;
+        }
+    }
+
+    record Not(SkillExpression operand) implements SkillExpression {
+        @Override
+        public BitSet evaluate(Function<String, BitSet> postings, BitSet universe) {
+            BitSet result = (BitSet) universe.clone();
+            result.andNot(operand.evaluate(postings, universe));
+            return result;
+        }
+    }
+
+    /**
+     * Parses an expression.
+     * @param text The expression as typed.
+     * @return The parsed expression.
+     * @throws IllegalArgumentException if the expression is empty, too long or malformed.
+     */
+    static SkillExpression parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Skill expression is required");
+        }
+        if (text.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Skill expression cannot exceed " + MAX_LENGTH + " characters");
+        }
+        Parser parser = new Parser(Parser.tokenize(text));
+        SkillExpression expression = parser.or();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.position) + "' in skill expression");
+        }
+        return expression;
+    }
+
+    /**
+     * Recursive-descent parser over the token list.
+     */
+    final class Parser {
+
+        private final List<String> tokens;
+        private int position;
+
+        private Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        private SkillExpression or() {
+            SkillExpression expression = and();
+            while (accept("OR")) {
+                expression = new Or(expression, and());
+            }
+            return expression;
+        }
+
+        private SkillExpression and() {
+            SkillExpression expression = not();
+            while (position < tokens.size() && !peekIs("OR") && !peekIs(")")) {
+                accept("AND");
+                expression = new And(expression, not());
+            }
+            return expression;
+        }
+
+        private SkillExpression not() {
+            if (accept("NOT")) {
+                return new Not(not());
+            }
+            return term();
+        }
+
+        private SkillExpression term() {
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("Skill expression ends unexpectedly");
+            }
+            if (accept("(")) {
+                SkillExpression expression = or();
+                if (!accept(")")) {
+                    throw new IllegalArgumentException("Missing ')' in skill expression");
+                }
+                return expression;
+            }
+            String token = tokens.get(position);
+            if (token.equals(")") || isKeyword(token)) {
+                throw new IllegalArgumentException("Expected a skill but found '" + token + "'");
+            }
+            position++;
+            String tag = SkillTags.normalize(token.startsWith("\"") ? token.substring(1, token.length() - 1) : token);
+            if (tag.isEmpty()) {
+                throw new IllegalArgumentException("Empty skill in skill expression");
+            }
+            return new Tag(tag);
+        }
+
+        private boolean peekIs(String keyword) {
+            return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+        }
+
+        private boolean accept(String keyword) {
+            if (peekIs(keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isKeyword(String token) {
+            return token.equalsIgnoreCase("AND") || token.equalsIgnoreCase("OR") || token.equalsIgnoreCase("NOT");
+        }
+
+        private static List<String> tokenize(String text) {
+            List<String> tokens = new ArrayList<>();
+            int i = 0;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (c == '(' || c == ')') {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                } else if (c == '"') {
+                    int end = text.indexOf('"', i + 1);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Unterminated quote in skill expression");
+                    }
+                    tokens.add(text.substring(i, end + 1));
+                    i = end + 1;
+                } else {
+                    int start = i;
+                    while (i < text.length() && !Character.isWhitespace(text.charAt(i))
+                            && "()\"".indexOf(text.charAt(i)) < 0) {
+                        i++;
+                    }
+                    tokens.add(text.substring(start, i));
+                }
+            }
+            return tokens;
+        }
+    }
+}
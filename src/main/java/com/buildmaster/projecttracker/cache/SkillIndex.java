@@ -0,0 +1,138 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Inverted index from skill tag to the bitmap of developer ids carrying it, plus each developer's
+ * open-task count for ranking. A boolean skill query is answered with bitmap AND/OR/ANDNOT over the
+ * postings, then the least loaded matches are picked with a bounded heap, so the cost depends on
+ * the number of developers, not on how the skills text is written.
+ * <p>
+ * Rebuilds count a developer as drifted when their tags or load changed.
+ */
+public class SkillIndex extends RebuildableIndex<SkillIndex.Entry> {
+
+    /**
+     * Orders candidates by open tasks, then id, so ties are stable across calls.
+     */
+    private static final Comparator<Entry> BY_LOAD = Comparator.comparingLong(Entry::openTasks)
+            .thenComparingLong(Entry::id);
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<Long, Entry> developers = new HashMap<>();
+    private final BitSet all = new BitSet();
+
+    /**
+     * Adds or replaces a developer's tags and load.
+     * @param entry The developer as read from the database.
+     */
+    public synchronized void put(Entry entry) {
+        recordChange(entry.id(), entry);
+        removeInternal(entry.id());
+        putInternal(entry);
+    }
+
+    /**
+     * Removes a deleted developer.
+     * @param id The developer id.
+     */
+    public synchronized void remove(Long id) {
+        recordChange(id, null);
+        removeInternal(id);
+    }
+
+    /**
+     * Finds the developers matching an expression, least loaded first.
+     * @param expression The parsed skill query.
+     * @param limit The maximum number of developers to return.
+     * @return The number of matches and the first {@code limit} of them.
+     */
+    public synchronized Match match(SkillExpression expression, int limit) {
+        BitSet matches = expression.evaluate(postings::get, all);
+        PriorityQueue<Entry> best = new PriorityQueue<>(Math.max(1, limit), BY_LOAD.reversed());
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            Entry entry = developers.get((long) id);
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (limit > 0 && BY_LOAD.compare(entry, best.peek()) < 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+        List<Entry> ranked = new ArrayList<>(best);
+        ranked.sort(BY_LOAD);
+        return new Match(matches.cardinality(), ranked);
+    }
+
+    public synchronized int size() {
+        return developers.size();
+    }
+
+    @Override
+    protected Map<Long, Entry> state() {
+        return developers;
+    }
+
+    @Override
+    protected void putInternal(Entry entry) {
+        int bit = bitFor(entry.id());
+        developers.put(entry.id(), entry);
+        all.set(bit);
+        for (String tag : entry.tags()) {
+            postings.computeIfAbsent(tag, key -> new BitSet()).set(bit);
+        }
+    }
+
+    @Override
+    protected void removeInternal(Long id) {
+        Entry entry = developers.remove(id);
+        if (entry == null) {
+            return;
+        }
+        int bit = bitFor(id);
+        all.clear(bit);
+        for (String tag : entry.tags()) {
+            BitSet tagged = postings.get(tag);
+            if (tagged != null) {
+                tagged.clear(bit);
+                if (tagged.isEmpty()) {
+                    postings.remove(tag);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void clearInternal() {
+        postings.clear();
+        developers.clear();
+        all.clear();
+    }
+
+    private static int bitFor(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    /**
+     * A developer as stored in the index.
+     * @param id The developer id.
+     * @param tags The normalized skill tags.
+     * @param openTasks The number of assigned tasks that are not completed.
+     */
+    public record Entry(Long id, Set<String> tags, long openTasks) {
+    }
+
+    /**
+     * @param matched The number of developers matching the expression.
+     * @param developers The least loaded matches, in ranking order.
+     */
+    public record Match(int matched, List<Entry> developers) {
+    }
+}
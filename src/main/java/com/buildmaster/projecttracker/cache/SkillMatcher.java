@@ -0,0 +1,107 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import com.buildmaster.projecttracker.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link SkillIndex} in step with the developers table. Developer saves and task writes
+ * report the developers they touched after commit and the matcher reloads just those rows; a
+ * periodic reconciliation rebuilds the index from the database. Until the first reconciliation has
+ * run the index is empty, so matching reports that it is not ready instead of returning nothing.
+ */
+@Component
+@Slf4j
+public class SkillMatcher {
+
+    private static final String UPDATE_FAILED = "Skill index update failed, the next reconciliation will correct it";
+
+    private final DeveloperRepository developerRepository;
+    private final SkillIndex index = new SkillIndex();
+    private volatile boolean ready;
+
+    public SkillMatcher(DeveloperRepository developerRepository) {
+        this.developerRepository = developerRepository;
+    }
+
+    /**
+     * Finds the developers whose skills satisfy the expression, least loaded first.
+     * @param expression The boolean skill expression.
+     * @param limit The maximum number of developers to return.
+     * @return The match count and the ranked developers.
+     * @throws IllegalArgumentException if the expression is malformed.
+     * @throws IllegalStateException if the index has not been built yet.
+     */
+    public SkillIndex.Match match(String expression, int limit) {
+        SkillExpression parsed = SkillExpression.parse(expression);
+        if (!ready) {
+            throw new IllegalStateException("Skill index is still loading");
+        }
+        return index.match(parsed, limit);
+    }
+
+    /**
+     * Reloads the developers' skills and open-task counts once the current transaction commits.
+     * @param developerIds The ids of developers whose skills or task load changed.
+     */
+    public void developersChanged(Collection<Long> developerIds) {
+        List<Long> ids = List.copyOf(developerIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        AfterCommit.runOrLog(() -> {
+            Map<Long, SkillIndex.Entry> entries = developerRepository.findSkillsByIdIn(ids).stream()
+                    .map(SkillMatcher::toEntry)
+                    .collect(Collectors.toMap(SkillIndex.Entry::id, Function.identity()));
+            for (Long id : ids) {
+                SkillIndex.Entry entry = entries.get(id);
+                if (entry != null) {
+                    index.put(entry);
+                } else {
+                    index.remove(id);
+                }
+            }
+        }, UPDATE_FAILED);
+    }
+
+    /**
+     * Drops the developer once the current transaction commits.
+     * @param developerId The id of the deleted developer.
+     */
+    public void developerDeleted(Long developerId) {
+        AfterCommit.runOrLog(() -> index.remove(developerId), UPDATE_FAILED);
+    }
+
+    /**
+     * Rebuilds the index from the database, keeping writes that commit while the snapshot is read.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.skills.reconcile-interval-ms:900000}",
+            initialDelayString = "${app.skills.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        index.beginRebuild();
+        int drift = index.completeRebuild(developerRepository.findAllSkills().stream()
+                .map(SkillMatcher::toEntry)
+                .toList());
+        if (ready && drift > 0) {
+            log.warn("Skill index reconciliation corrected {} developers", drift);
+        }
+        ready = true;
+        log.debug("Skill index holds {} developers", index.size());
+    }
+
+    private static SkillIndex.Entry toEntry(DeveloperRepository.DeveloperSkills row) {
+        return new SkillIndex.Entry(row.getId(), SkillTags.parse(row.getSkills()),
+                row.getOpenTasks() != null ? row.getOpenTasks() : 0);
+    }
+}
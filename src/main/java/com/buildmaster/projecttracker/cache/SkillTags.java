@@ -0,0 +1,43 @@
+package com.buildmaster.projecttracker.cache;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the free-text skills column into normalized tags. Skills are split on commas, semicolons,
+ * pipes or line breaks; text without any of those is taken as a space-separated list. Tags are
+ * lower-cased with inner whitespace collapsed, so "Spring  Boot" and "spring boot" are the same tag.
+ */
+public class SkillTags {
+
+    private static final Pattern LIST_SEPARATOR = Pattern.compile("[,;|\\n]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * @param skills The raw skills text, possibly null.
+     * @return The distinct tags, in the order they first appear.
+     */
+    public static Set<String> parse(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return Set.of();
+        }
+        Pattern separator = LIST_SEPARATOR.matcher(skills).find() ? LIST_SEPARATOR : WHITESPACE;
+        Set<String> tags = new LinkedHashSet<>();
+        Arrays.stream(separator.split(skills))
+                .map(SkillTags::normalize)
+                .filter(tag -> !tag.isEmpty())
+                .forEach(tags::add);
+        return tags;
+    }
+
+    /**
+     * @param tag A single skill as typed.
+     * @return The tag in its indexed form.
+     */
+    public static String normalize(String tag) {
+        return WHITESPACE.matcher(tag.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
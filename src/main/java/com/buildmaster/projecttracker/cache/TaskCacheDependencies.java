@@ -0,0 +1,78 @@
+package com.buildmaster.projecttracker.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Dependency tags for the task sub-caches. Entries scoped to a task, project or developer
+ * depend on that id only, while global listings (all pages, overdue, status counts) depend on {@link #ALL}.
+ */
+@Component
+public class TaskCacheDependencies implements CacheDependencyResolver {
+
+    public static final String BY_ID_CACHE = "tasksById";
+    public static final String PAGE_CACHE = "taskPages";
+    public static final String BY_PROJECT_CACHE = "tasksByProject";
+    public static final String BY_DEVELOPER_CACHE = "tasksByDeveloper";
+    public static final String STATUS_COUNTS_CACHE = "taskStatusCounts";
+    public static final String PROJECT_SUMMARY_CACHE = "projectSummaries";
+
+    public static final List<String> CACHE_NAMES = List.of(BY_ID_CACHE, PAGE_CACHE, BY_PROJECT_CACHE,
+            BY_DEVELOPER_CACHE, STATUS_COUNTS_CACHE, PROJECT_SUMMARY_CACHE);
+
+    public static final String TASK = "task";
+    public static final String PROJECT = "project";
+    public static final String DEVELOPER = "developer";
+    public static final String ALL = "all";
+
+    @Override
+    public Collection<String> cacheNames() {
+        return CACHE_NAMES;
+    }
+
+    @Override
+    public Set<String> dependenciesOf(Object key) {
+        if (!(key instanceof TaskCacheKey taskKey)) {
+            return Set.of(ALL);
+        }
+        return switch (taskKey.query()) {
+            case BY_ID -> Set.of(TASK + ":" + taskKey.scopeId());
+            case BY_PROJECT, PROJECT_SUMMARY -> Set.of(PROJECT + ":" + taskKey.scopeId());
+            case BY_DEVELOPER -> Set.of(DEVELOPER + ":" + taskKey.scopeId());
+            case PAGE, STATUS_COUNTS -> Set.of(ALL);
+        };
+    }
+
+    /**
+     * Tags invalidated when a task changes. Both the previous and the new project and
+     * developer are included so a task moving between owners clears both listings.
+     * @param taskId The id of the changed task.
+     * @param projectIds Project ids the task belonged to before and/or after the change.
+     * @param developerIds Developer ids the task was assigned to before and/or after the change.
+     * @return The set of tags to evict.
+     */
+    public static Set<String> tagsForTaskChange(Long taskId, Collection<Long> projectIds, Collection<Long> developerIds) {
+        return tagsForTaskChanges(taskId != null ? List.of(taskId) : List.of(), projectIds, developerIds);
+    }
+
+    /**
+     * Tags invalidated when several tasks change in one operation.
+     * @param taskIds The ids of the changed tasks.
+     * @param projectIds Project ids the tasks belonged to before and/or after the change.
+     * @param developerIds Developer ids the tasks were assigned to before and/or after the change.
+     * @return The set of tags to evict.
+     */
+    public static Set<String> tagsForTaskChanges(Collection<Long> taskIds, Collection<Long> projectIds, Collection<Long> developerIds) {
+        Set<String> tags = new LinkedHashSet<>();
+        tags.add(ALL);
+        taskIds.stream().filter(Objects::nonNull).forEach(id -> tags.add(TASK + ":" + id));
+        projectIds.stream().filter(Objects::nonNull).forEach(id -> tags.add(PROJECT + ":" + id));
+        developerIds.stream().filter(Objects::nonNull).forEach(id -> tags.add(DEVELOPER + ":" + id));
+        return tags;
+    }
+}
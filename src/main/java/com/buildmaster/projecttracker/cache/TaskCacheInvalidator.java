@@ -0,0 +1,95 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.buildmaster.projecttracker.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Evicts the cached task entries that depend on the given task, projects and developers.
+     * Inside a transaction the eviction runs after commit, so a concurrent reader cannot
+     * repopulate the cache with the pre-commit state.
+     * @param taskId The id of the changed task.
+     * @param projectIds Project ids affected by the change.
+     * @param developerIds Developer ids affected by the change.
+     */
+    public void invalidate(Long taskId, Collection<Long> projectIds, Collection<Long> developerIds) {
+        Set<String> tags = TaskCacheDependencies.tagsForTaskChange(taskId, projectIds, developerIds);
+        AfterCommit.run(() -> evict(tags));
+    }
+
+    /**
+     * Evicts the cached task entries that depend on any of the given tasks, projects and developers,
+     * with a single pass over the dependency index after commit.
+     * @param taskIds The ids of the changed tasks.
+     * @param projectIds Project ids affected by the change.
+     * @param developerIds Developer ids affected by the change.
+     */
+    public void invalidateTasks(Collection<Long> taskIds, Collection<Long> projectIds, Collection<Long> developerIds) {
+        Set<String> tags = TaskCacheDependencies.tagsForTaskChanges(taskIds, projectIds, developerIds);
+        AfterCommit.run(() -> evict(tags));
+    }
+
+    /**
+     * Evicts task entries that embed data of the given project or developer, e.g. after a rename
+     * or a cascading delete. Cached single tasks carry owner names, so the by-id cache is cleared too,
+     * and so are the project summaries after a developer change, since they list developer names.
+     * @param projectId The changed project id, or null.
+     * @param developerId The changed developer id, or null.
+     */
+    public void invalidateOwner(Long projectId, Long developerId) {
+        Set<String> tags = TaskCacheDependencies.tagsForTaskChange(null,
+                projectId != null ? List.of(projectId) : List.of(),
+                developerId != null ? List.of(developerId) : List.of());
+        AfterCommit.run(() -> {
+            evict(tags);
+            clear(TaskCacheDependencies.BY_ID_CACHE);
+            if (developerId != null) {
+                clear(TaskCacheDependencies.PROJECT_SUMMARY_CACHE);
+            }
+        });
+    }
+
+    /**
+     * Evicts only the entries scoped to the given project, for changes to project fields that
+     * no task listing embeds, such as its status.
+     * @param projectId The changed project id.
+     */
+    public void invalidateProject(Long projectId) {
+        Set<String> tags = Set.of(TaskCacheDependencies.PROJECT + ":" + projectId);
+        AfterCommit.run(() -> evict(tags));
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void evict(Set<String> tags) {
+        int evicted = 0;
+        for (String cacheName : TaskCacheDependencies.CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof DependencyTrackingCache trackingCache) {
+                evicted += trackingCache.evictDependents(tags);
+            } else if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("Evicted {} task cache entries for {}", evicted, tags);
+    }
+}
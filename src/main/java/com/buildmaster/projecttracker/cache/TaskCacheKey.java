@@ -0,0 +1,67 @@
+package com.buildmaster.projecttracker.cache;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Structured key for the task sub-caches. The query shape is part of the key, so
+ * {@code findByProjectId(5, p)} and {@code findByDeveloperId(5, p)} can never collide even
+ * if two shapes were ever pointed at the same cache.
+ * @param query The query shape that produced the cached value.
+ * @param scopeId The task, project or developer id the query is scoped to, or null for global queries.
+ * @param page The requested page number, or -1 when the query is not paged.
+ * @param size The requested page size, or -1 when the query is not paged.
+ * @param sort The requested sort order, or an empty string.
+ */
+public record TaskCacheKey(TaskQuery query, Long scopeId, int page, int size, String sort) {
+
+    public enum TaskQuery {
+        BY_ID(TaskCacheDependencies.BY_ID_CACHE),
+        PAGE(TaskCacheDependencies.PAGE_CACHE),
+        BY_PROJECT(TaskCacheDependencies.BY_PROJECT_CACHE),
+        BY_DEVELOPER(TaskCacheDependencies.BY_DEVELOPER_CACHE),
+        STATUS_COUNTS(TaskCacheDependencies.STATUS_COUNTS_CACHE),
+        PROJECT_SUMMARY(TaskCacheDependencies.PROJECT_SUMMARY_CACHE);
+
+        private final String cacheName;
+
+        TaskQuery(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        public String getCacheName() {
+            return cacheName;
+        }
+    }
+
+    public static TaskCacheKey byId(Long id) {
+        return new TaskCacheKey(TaskQuery.BY_ID, id, -1, -1, "");
+    }
+
+    public static TaskCacheKey page(Pageable pageable) {
+        return paged(TaskQuery.PAGE, null, pageable);
+    }
+
+    public static TaskCacheKey byProject(Long projectId, Pageable pageable) {
+        return paged(TaskQuery.BY_PROJECT, projectId, pageable);
+    }
+
+    public static TaskCacheKey byDeveloper(Long developerId, Pageable pageable) {
+        return paged(TaskQuery.BY_DEVELOPER, developerId, pageable);
+    }
+
+    public static TaskCacheKey statusCounts() {
+        return new TaskCacheKey(TaskQuery.STATUS_COUNTS, null, -1, -1, "");
+    }
+
+    public static TaskCacheKey projectSummary(Long projectId) {
+        return new TaskCacheKey(TaskQuery.PROJECT_SUMMARY, projectId, -1, -1, "");
+    }
+
+    private static TaskCacheKey paged(TaskQuery query, Long scopeId, Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return new TaskCacheKey(query, scopeId, -1, -1, pageable != null ? pageable.getSort().toString() : "");
+        }
+        return new TaskCacheKey(query, scopeId, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString());
+    }
+}
@@ -0,0 +1,42 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Background reloads for the global task aggregates, which are the most expensive
+ * entries to recompute and the ones every dashboard reads.
+ */
+@Component
+public class TaskCacheLoader implements RefreshingCacheLoader {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskCacheLoader(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Collection<String> cacheNames() {
+        return List.of(TaskCacheDependencies.STATUS_COUNTS_CACHE);
+    }
+
+    @Override
+    public Object load(Object key) {
+        if (!(key instanceof TaskCacheKey taskKey)) {
+            throw new IllegalArgumentException("Unsupported task cache key: " + key);
+        }
+        return readOnlyTransaction.execute(status -> switch (taskKey.query()) {
+            case STATUS_COUNTS -> taskRepository.countTasksByStatus();
+            default -> throw new IllegalArgumentException("No background loader for " + taskKey.query());
+        });
+    }
+}
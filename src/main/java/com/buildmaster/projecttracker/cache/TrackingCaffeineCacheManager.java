@@ -0,0 +1,52 @@
+package com.buildmaster.projecttracker.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CaffeineCacheManager that wraps caches with a registered {@link CacheDependencyResolver}
+ * in a {@link DependencyTrackingCache}. Size and expiry evictions are fed back into the
+ * index through Caffeine's synchronous eviction listener so it never outgrows the cache.
+ * When a {@link RefreshingCacheLoader} is supplied the cache is built as a loading cache,
+ * letting Caffeine's {@code refreshAfterWrite} reload hot entries in the background.
+ */
+public class TrackingCaffeineCacheManager extends CaffeineCacheManager {
+
+    private final Map<String, CacheDependencyIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> coalescedLoads = new ConcurrentHashMap<>();
+
+    public void registerTrackedCache(String name, Caffeine<Object, Object> builder, CacheDependencyResolver resolver,
+                                     RefreshingCacheLoader refresher) {
+        CacheDependencyIndex index = new CacheDependencyIndex(resolver);
+        indexes.put(name, index);
+        coalescedLoads.put(name, new LongAdder());
+        builder.evictionListener((key, value, cause) -> index.forget(key));
+        if (refresher != null) {
+            CacheLoader<Object, Object> loader = refresher::load;
+            registerCustomCache(name, builder.build(loader));
+        } else {
+            registerCustomCache(name, builder.build());
+        }
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        Cache adapted = super.adaptCaffeineCache(name, cache);
+        CacheDependencyIndex index = indexes.get(name);
+        return index != null ? new DependencyTrackingCache(adapted, index, coalescedLoads.get(name)) : adapted;
+    }
+
+    /**
+     * @return Per-cache counters of callers that waited on another caller's in-flight load.
+     */
+    public Map<String, LongAdder> getCoalescedLoads() {
+        return Collections.unmodifiableMap(coalescedLoads);
+    }
+}
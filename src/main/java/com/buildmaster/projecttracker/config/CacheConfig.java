@@ -1,10 +1,126 @@
 package com.buildmaster.projecttracker.config;
 
+import com.buildmaster.projecttracker.cache.CacheDependencyResolver;
+import com.buildmaster.projecttracker.cache.RefreshingCacheLoader;
+import com.buildmaster.projecttracker.cache.TrackingCaffeineCacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
+@Slf4j
 public class CacheConfig {
 
-}
\ No newline at end of file
+    /**
+     * Builds a Caffeine-backed CacheManager with one bounded cache per configured spec.
+     * Caffeine evicts with W-TinyLFU, so frequently read entries survive bursts of one-off keys.
+     * Caches are registered up front so actuator binds their hit/miss/eviction metrics at startup;
+     * cache names that are not configured are still created on demand with the default policy.
+     * Caches with a {@link CacheDependencyResolver} are wrapped so writes can evict by dependency,
+     * and those with a {@link RefreshingCacheLoader} and {@code refresh-after-write} reload in the background.
+     * @param properties The per-cache policies bound from application.properties.
+     * @param resolvers The dependency resolvers declared for individual caches.
+     * @param refreshers The background loaders declared for individual caches.
+     * @return The application CacheManager.
+     */
+    @Bean
+    public TrackingCaffeineCacheManager cacheManager(CachePolicyProperties properties,
+                                                     ObjectProvider<CacheDependencyResolver> resolvers,
+                                                     ObjectProvider<RefreshingCacheLoader> refreshers) {
+        TrackingCaffeineCacheManager cacheManager = new TrackingCaffeineCacheManager();
+        cacheManager.setCaffeine(caffeineFor(properties.getDefaults()));
+
+        Map<String, CacheDependencyResolver> resolversByCache = new LinkedHashMap<>();
+        resolvers.orderedStream().forEach(resolver ->
+                resolver.cacheNames().forEach(name -> resolversByCache.put(name, resolver)));
+        Map<String, RefreshingCacheLoader> refreshersByCache = new LinkedHashMap<>();
+        refreshers.orderedStream().forEach(refresher ->
+                refresher.cacheNames().forEach(name -> refreshersByCache.put(name, refresher)));
+        Map<String, CachePolicyProperties.CacheSpec> specs = new LinkedHashMap<>(properties.getSpecs());
+        resolversByCache.keySet().forEach(name -> specs.putIfAbsent(name, new CachePolicyProperties.CacheSpec()));
+
+        for (Map.Entry<String, CachePolicyProperties.CacheSpec> entry : specs.entrySet()) {
+            String name = entry.getKey();
+            CachePolicyProperties.CacheSpec spec = entry.getValue().mergedWith(properties.getDefaults());
+            CacheDependencyResolver resolver = resolversByCache.get(name);
+            RefreshingCacheLoader refresher = spec.getRefreshAfterWrite() != null ? refreshersByCache.get(name) : null;
+            if (resolver != null) {
+                Caffeine<Object, Object> builder = caffeineFor(spec);
+                if (refresher != null) {
+                    builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+                }
+                cacheManager.registerTrackedCache(name, builder, resolver, refresher);
+            } else {
+                cacheManager.registerCustomCache(name, caffeineFor(spec).build());
+            }
+            log.info("Registered cache '{}' with policy {}{}", name, spec, resolver != null ? " (dependency-tracked)" : "");
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Publishes {@code cache.loads.coalesced} for every dependency-tracked cache: the number of
+     * callers that missed but were served by a load another caller already had in flight.
+     * @param cacheManager The application CacheManager.
+     * @return A MeterBinder registering one counter per cache.
+     */
+    @Bean
+    public MeterBinder coalescedCacheLoadMetrics(TrackingCaffeineCacheManager cacheManager) {
+        return registry -> {
+            for (Map.Entry<String, LongAdder> entry : cacheManager.getCoalescedLoads().entrySet()) {
+                FunctionCounter.builder("cache.loads.coalesced", entry.getValue(), LongAdder::sum)
+                        .tag("cache", entry.getKey())
+                        .description("Cache misses served by another caller's in-flight load")
+                        .register(registry);
+            }
+        };
+    }
+
+    private Caffeine<Object, Object> caffeineFor(CachePolicyProperties.CacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight())
+                    .weigher((key, value) -> weightOf(value));
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (!Boolean.FALSE.equals(spec.getRecordStats())) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    /**
+     * Approximates the weight of a cached value by the number of rows it holds,
+     * so a cached page of 100 tasks costs 100 times a single task.
+     */
+    private static int weightOf(Object value) {
+        if (value instanceof Page<?> page) {
+            return Math.max(1, page.getNumberOfElements());
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+}
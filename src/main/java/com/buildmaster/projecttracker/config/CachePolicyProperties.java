@@ -0,0 +1,47 @@
+package com.buildmaster.projecttracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache eviction and expiry policies, bound from {@code app.cache.*}.
+ * Any setting left out of a named spec falls back to {@code app.cache.defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CachePolicyProperties {
+
+    private CacheSpec defaults = new CacheSpec();
+
+    private Map<String, CacheSpec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class CacheSpec {
+        private Long maximumSize;
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private Duration refreshAfterWrite;
+        private Boolean recordStats;
+
+        /**
+         * Returns a copy of this spec where unset values are taken from the given defaults.
+         * @param fallback The spec supplying values this one does not define.
+         * @return The merged CacheSpec.
+         */
+        public CacheSpec mergedWith(CacheSpec fallback) {
+            CacheSpec merged = new CacheSpec();
+            merged.setMaximumSize(maximumSize != null ? maximumSize : fallback.getMaximumSize());
+            merged.setMaximumWeight(maximumWeight != null ? maximumWeight : fallback.getMaximumWeight());
+            merged.setExpireAfterWrite(expireAfterWrite != null ? expireAfterWrite : fallback.getExpireAfterWrite());
+            merged.setExpireAfterAccess(expireAfterAccess != null ? expireAfterAccess : fallback.getExpireAfterAccess());
+            merged.setRefreshAfterWrite(refreshAfterWrite != null ? refreshAfterWrite : fallback.getRefreshAfterWrite());
+            merged.setRecordStats(recordStats != null ? recordStats : fallback.getRecordStats());
+            return merged;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.buildmaster.projecttracker.enums.TaskStatus;
 import com.buildmaster.projecttracker.repository.DeveloperRepository;
 import com.buildmaster.projecttracker.repository.ProjectRepository;
 import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.buildmaster.projecttracker.service.TaskCounterService;
 import com.buildmaster.projecttracker.repository.RoleRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -28,15 +29,18 @@ public class DataInitializer implements CommandLineRunner {
     private final DeveloperRepository developerRepository;
     private final TaskRepository taskRepository;
     private final RoleRepository roleRepository;
+    private final TaskCounterService taskCounterService;
 
     public DataInitializer(ProjectRepository projectRepository,
                            DeveloperRepository developerRepository,
                            TaskRepository taskRepository,
-                           RoleRepository roleRepository) {
+                           RoleRepository roleRepository,
+                           TaskCounterService taskCounterService) {
         this.projectRepository = projectRepository;
         this.developerRepository = developerRepository;
         this.taskRepository = taskRepository;
         this.roleRepository = roleRepository;
+        this.taskCounterService = taskCounterService;
     }
 
     @Override
@@ -161,6 +165,7 @@ public class DataInitializer implements CommandLineRunner {
 
             List<Task> savedTasks = taskRepository.saveAll(Arrays.asList(task1, task2, task3));
             log.info("Created {} tasks", savedTasks.size());
+            taskCounterService.repair();
 
             log.info("Data initialization completed successfully!");
 
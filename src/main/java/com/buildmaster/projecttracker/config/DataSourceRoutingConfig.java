@@ -0,0 +1,80 @@
+package com.buildmaster.projecttracker.config;
+
+import com.buildmaster.projecttracker.datasource.ReadYourWritesTracker;
+import com.buildmaster.projecttracker.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Splits reads from writes when {@code app.datasource.routing.enabled=true}. The application DataSource
+ * becomes a lazy proxy over the primary pool: a connection marked read-only, which is what
+ * {@code @Transactional(readOnly = true)} does, is taken from the replica router instead.
+ * <p>
+ * The proxy picks its target on first use and keeps it, so a session must not outlive its transaction:
+ * with open-in-view one session spans the request, and a write following a read-only transaction would
+ * reuse the replica connection. ReplicaRoutingEnvironmentPostProcessor turns open-in-view off whenever
+ * routing is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Registered as a bean so Spring Boot attaches it to the transaction manager as an execution listener.
+     * @param properties The routing settings.
+     * @return The read-your-writes tracker.
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickiness());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                                      DataSourceRoutingProperties properties,
+                                                      ReadYourWritesTracker readYourWritesTracker) {
+        List<ReplicaRoutingDataSource.Replica> replicas = properties.getReplicas().stream()
+                .map(spec -> new ReplicaRoutingDataSource.Replica(spec.getName(), replicaPool(spec, primaryDataSource)))
+                .toList();
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker,
+                properties.getMaxLag(), properties.getLagQuery());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    private static HikariDataSource replicaPool(DataSourceRoutingProperties.ReplicaSpec spec, HikariDataSource primary) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica-" + spec.getName());
+        pool.setJdbcUrl(spec.getUrl());
+        pool.setUsername(spec.getUsername() != null ? spec.getUsername() : primary.getUsername());
+        pool.setPassword(spec.getPassword() != null ? spec.getPassword() : primary.getPassword());
+        pool.setDriverClassName(primary.getDriverClassName());
+        pool.setMaximumPoolSize(spec.getMaximumPoolSize());
+        pool.setReadOnly(true);
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+}
@@ -0,0 +1,43 @@
+package com.buildmaster.projecttracker.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing, bound from {@code app.datasource.routing.*}. When enabled, read-only
+ * transactions are served by a healthy replica whose lag is within {@link #maxLag}, unless the
+ * current thread or user committed a write within {@link #stickiness}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private List<ReplicaSpec> replicas = new ArrayList<>();
+
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    /**
+     * Returns the replica's replay lag in seconds. A server that is not a standby, or one that has
+     * replayed everything it received, reports 0 so an idle primary does not look like lag.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    @Data
+    public static class ReplicaSpec {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
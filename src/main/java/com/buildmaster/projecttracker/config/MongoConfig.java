@@ -10,4 +10,12 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     protected String getDatabaseName() {
         return "project_tracker_audit";
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the indexes declared on the documents at startup. Existing indexes are left as they are.
+     */
+    @Override
+    protected boolean autoIndexCreation() {
+        return true;
+    }
+}
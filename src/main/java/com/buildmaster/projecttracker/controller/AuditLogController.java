@@ -0,0 +1,112 @@
+package com.buildmaster.projecttracker.controller;
+
+import com.buildmaster.projecttracker.audit.AuditLog;
+import com.buildmaster.projecttracker.audit.AuditRollups;
+import com.buildmaster.projecttracker.dto.AuditLogFilter;
+import com.buildmaster.projecttracker.dto.AuditSnapshot;
+import com.buildmaster.projecttracker.dto.AuditTrendPoint;
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.enums.RollupGranularity;
+import com.buildmaster.projecttracker.service.AuditService;
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/audit-logs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AuditLogController {
+
+    private final AuditService auditService;
+    private final AuditRollups auditRollups;
+
+    /**
+     * Searches audit logs newest first, combining any of the filters.
+     * @param after The nextCursor of the previous slice; omit for the first slice.
+     * @param from The earliest timestamp to include.
+     * @param to The timestamp to stop before.
+     * @return One slice of audit logs, or an error for an invalid cursor or range.
+     */
+    @GetMapping
+    public ResponseEntity<?> searchAuditLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String actionType,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) Boolean success,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+
+        try {
+            AuditLogFilter filter = new AuditLogFilter(entityType, entityId, actionType, userId, username, success,
+                    from, to);
+            ScrollPosition position = KeysetCursor.decode(after, AuditService.SEEK_KEYS);
+            CursorPage<AuditLog> auditLogs = auditService.search(filter, position, Math.max(1, Math.min(size, 500)));
+            return ResponseEntity.ok(auditLogs);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Rebuilds the full state of an entity after each of its audit events from the stored diffs.
+     * @param at Replay events up to this time only; omit for the whole history.
+     * @return The snapshots, oldest first, or 404 if the entity has no audit events.
+     */
+    @GetMapping("/{entityType}/{entityId}/snapshots")
+    public ResponseEntity<List<AuditSnapshot>> getSnapshots(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+
+        List<AuditSnapshot> snapshots = auditService.reconstruct(entityType, entityId, at);
+        return snapshots.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(snapshots);
+    }
+
+    /**
+     * Counts audit events per time bucket from the rollup counters, without reading raw events.
+     * @param granularity "minute", "hour" or "day".
+     * @param from The start of the range, rounded down to a bucket.
+     * @param to The end of the range, exclusive.
+     * @return One point per bucket with events, or an error for an invalid granularity or range.
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<?> getTrends(
+            @RequestParam(defaultValue = "hour") String granularity,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String actionType,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) Boolean success,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            List<AuditTrendPoint> trend = auditRollups.trend(RollupGranularity.from(granularity), entityType,
+                    actionType, userId, success, from, to);
+            return ResponseEntity.ok(trend);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
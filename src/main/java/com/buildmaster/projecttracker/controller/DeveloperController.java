@@ -1,13 +1,22 @@
 package com.buildmaster.projecttracker.controller;
 
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.dto.DeveloperView;
+import com.buildmaster.projecttracker.dto.SkillMatchResult;
 import com.buildmaster.projecttracker.entity.Developer;
 import com.buildmaster.projecttracker.service.DeveloperService;
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import com.buildmaster.projecttracker.util.VersionTag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -26,7 +35,7 @@ public class DeveloperController {
     private final DeveloperService developerService;
 
     @GetMapping
-    public ResponseEntity<Page<Developer>> getAllDevelopers(
+    public ResponseEntity<Page<DeveloperView>> getAllDevelopers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
@@ -36,35 +45,93 @@ public class DeveloperController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Developer> developers = developerService.findAll(pageable);
+        Page<DeveloperView> developers = developerService.findAll(pageable);
 
         return ResponseEntity.ok(developers);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollDevelopers(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            Sort sort = KeysetCursor.seekSort(sortBy, sortDir, DeveloperService.SEEK_KEYS);
+            ScrollPosition position = KeysetCursor.decode(after, DeveloperService.SEEK_KEYS);
+            CursorPage<DeveloperView> developers = developerService.scroll(position, sort,
+                    Math.max(1, Math.min(size, 100)), includeTotal);
+            return ResponseEntity.ok(developers);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Developer> getDeveloperById(@PathVariable Long id) {
+    public ResponseEntity<DeveloperView> getDeveloperById(@PathVariable Long id) {
         return developerService.findById(id)
                 .map(developer -> ResponseEntity.ok(developer))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/email/{email}")
-    public ResponseEntity<Developer> getDeveloperByEmail(@PathVariable String email) {
-        return developerService.findByEmail(email)
+    public ResponseEntity<DeveloperView> getDeveloperByEmail(@PathVariable String email) {
+        return developerService.findViewByEmail(email)
                 .map(developer -> ResponseEntity.ok(developer))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Type-ahead search over developer name, email and skills. Tolerates small typos and ranks the
+     * closest matches first.
+     * @param name The search text, at least three characters.
+     * @return A slice of matches, or an error for a query that is too short.
+     */
     @GetMapping("/search")
-    public ResponseEntity<Page<Developer>> searchDevelopersByName(
+    public ResponseEntity<?> searchDevelopers(
             @RequestParam String name,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Developer> developers = developerService.searchByName(name, pageable);
+        try {
+            Pageable pageable = PageRequest.of(page, Math.min(size, 100));
+            Slice<DeveloperView> developers = developerService.search(name, pageable);
+            return ResponseEntity.ok(developers);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 
-        return ResponseEntity.ok(developers);
+    /**
+     * Finds developers by a boolean skill expression, e.g. {@code java AND (kafka OR rabbitmq) AND NOT php},
+     * ranked by their current open-task load, least loaded first.
+     * @param skills The skill expression; tags containing spaces are quoted.
+     * @param limit The maximum number of developers to return, at most 100.
+     * @return The match count and ranked developers, or an error for a malformed expression.
+     */
+    @GetMapping("/match")
+    public ResponseEntity<?> matchDevelopersBySkills(
+            @RequestParam String skills,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        try {
+            SkillMatchResult result = developerService.matchBySkills(skills, Math.max(0, Math.min(limit, 100)));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (IllegalStateException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
     }
 
     @PostMapping
@@ -88,6 +155,10 @@ public class DeveloperController {
                         developer.setId(id);
                         Developer updatedDeveloper = developerService.save(developer);
                         return ResponseEntity.ok(updatedDeveloper);
+                    } catch (OptimisticLockingFailureException e) {
+                        Map<String, String> error = new HashMap<>();
+                        error.put("error", e.getMessage());
+                        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
                     } catch (RuntimeException e) {
                         Map<String, String> error = new HashMap<>();
                         error.put("error", e.getMessage());
@@ -114,9 +185,9 @@ public class DeveloperController {
     }
 
     @GetMapping("/top-performers")
-    public ResponseEntity<List<Developer>> getTopDevelopers(
+    public ResponseEntity<List<DeveloperView>> getTopDevelopers(
             @RequestParam(defaultValue = "5") int limit) {
-        List<Developer> topDevelopers = developerService.findTopDevelopersByTaskCount(limit);
+        List<DeveloperView> topDevelopers = developerService.findTopDevelopersByTaskCount(limit);
         return ResponseEntity.ok(topDevelopers);
     }
 
@@ -127,7 +198,7 @@ public class DeveloperController {
                     Long taskCount = developerService.getTaskCountForDeveloper(id);
                     Map<String, Object> response = new HashMap<>();
                     response.put("developerId", id);
-                    response.put("developerName", developer.getName());
+                    response.put("developerName", developer.name());
                     response.put("taskCount", taskCount);
                     return ResponseEntity.ok(response);
                 })
@@ -136,6 +207,7 @@ public class DeveloperController {
 
     @PatchMapping("/{id}/skills")
     public ResponseEntity<?> updateDeveloperSkills(@PathVariable Long id,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                    @RequestBody Map<String, String> request) {
         try {
             String skills = request.get("skills");
@@ -145,8 +217,12 @@ public class DeveloperController {
                 return ResponseEntity.badRequest().body(error);
             }
 
-            Developer updatedDeveloper = developerService.updateSkills(id, skills);
-            return ResponseEntity.ok(updatedDeveloper);
+            DeveloperView updatedDeveloper = developerService.updateSkills(id, skills, VersionTag.parse(ifMatch));
+            return ResponseEntity.ok().eTag(VersionTag.of(updatedDeveloper.version())).body(updatedDeveloper);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -1,20 +1,39 @@
 package com.buildmaster.projecttracker.controller;
 
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.dto.ProjectExportFilter;
+import com.buildmaster.projecttracker.dto.ProjectSummary;
+import com.buildmaster.projecttracker.dto.ProjectView;
 import com.buildmaster.projecttracker.entity.Project;
+import com.buildmaster.projecttracker.enums.ExportFormat;
 import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.service.ArchiveService;
+import com.buildmaster.projecttracker.service.ExportService;
 import com.buildmaster.projecttracker.service.ProjectService;
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import com.buildmaster.projecttracker.util.VersionTag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/projects")
@@ -23,9 +42,11 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ArchiveService archiveService;
+    private final ExportService exportService;
 
     @GetMapping
-    public ResponseEntity<Page<Project>> getAllProjects(
+    public ResponseEntity<Page<ProjectView>> getAllProjects(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
@@ -35,18 +56,90 @@ public class ProjectController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Project> projects = projectService.findAll(pageable);
+        Page<ProjectView> projects = projectService.findAll(pageable);
 
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollProjects(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            Sort sort = KeysetCursor.seekSort(sortBy, sortDir, ProjectService.SEEK_KEYS);
+            ScrollPosition position = KeysetCursor.decode(after, ProjectService.SEEK_KEYS);
+            CursorPage<ProjectView> projects = projectService.scroll(position, sort,
+                    Math.max(1, Math.min(size, 100)), includeTotal);
+            return ResponseEntity.ok(projects);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Streams every project matching the filters as CSV or NDJSON in constant memory.
+     * @param format "csv" or "ndjson".
+     * @param from The earliest creation date to include.
+     * @param to The latest creation date to include.
+     * @return The streamed export, or an error for an unknown format or inverted range.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportProjects(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        try {
+            ExportFormat exportFormat = ExportFormat.from(format);
+            ProjectExportFilter filter = new ProjectExportFilter(status, from, to);
+            StreamingResponseBody body = out -> exportService.exportProjects(filter, exportFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("projects." + exportFormat.getExtension()).build().toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Project> getProjectById(@PathVariable Long id) {
-        return projectService.findById(id)
+    public ResponseEntity<ProjectView> getProjectById(@PathVariable Long id,
+                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return archiveService.findProject(id, includeArchived)
                 .map(project -> ResponseEntity.ok(project))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Archives completed projects past the configured age now, instead of waiting for the nightly run.
+     * @return The number of projects archived.
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<Map<String, Integer>> archiveCompletedProjects() {
+        Map<String, Integer> response = new HashMap<>();
+        response.put("archived", archiveService.archiveCompletedProjects());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ProjectView> restoreProject(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(archiveService.restore(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<Project> createProject(@Valid @RequestBody Project project) {
         Project savedProject = projectService.save(project);
@@ -54,17 +147,32 @@ public class ProjectController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Project> updateProject(@PathVariable Long id,
-                                                 @Valid @RequestBody Project project) {
+    public ResponseEntity<?> updateProject(@PathVariable Long id,
+                                           @Valid @RequestBody Project project) {
         return projectService.findById(id)
-                .map(existingProject -> {
-                    project.setId(id);
-                    Project updatedProject = projectService.save(project);
-                    return ResponseEntity.ok(updatedProject);
+                .<ResponseEntity<?>>map(existingProject -> {
+                    try {
+                        project.setId(id);
+                        Project updatedProject = projectService.save(project);
+                        return ResponseEntity.ok(updatedProject);
+                    } catch (OptimisticLockingFailureException e) {
+                        Map<String, String> error = new HashMap<>();
+                        error.put("error", e.getMessage());
+                        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+                    }
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<ProjectSummary> getProjectSummary(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(projectService.getSummary(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         return projectService.findById(id)
@@ -76,35 +184,45 @@ public class ProjectController {
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<Page<Project>> getProjectsByStatus(
+    public ResponseEntity<Page<ProjectView>> getProjectsByStatus(
             @PathVariable ProjectStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Project> projects = projectService.findByStatus(status, pageable);
+        Page<ProjectView> projects = archiveService.findProjectsByStatus(status, pageable, includeArchived);
 
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/without-tasks")
-    public ResponseEntity<List<Project>> getProjectsWithoutTasks() {
-        List<Project> projects = projectService.findProjectsWithoutTasks();
+    public ResponseEntity<List<ProjectView>> getProjectsWithoutTasks() {
+        List<ProjectView> projects = projectService.findProjectsWithoutTasks();
         return ResponseEntity.ok(projects);
     }
 
     @GetMapping("/overdue")
-    public ResponseEntity<List<Project>> getOverdueProjects() {
-        List<Project> projects = projectService.findOverdueProjects();
+    public ResponseEntity<List<ProjectView>> getOverdueProjects() {
+        List<ProjectView> projects = projectService.findOverdueProjects();
         return ResponseEntity.ok(projects);
     }
 
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Project> updateProjectStatus(@PathVariable Long id,
-                                                       @RequestBody ProjectStatus status) {
+    public ResponseEntity<?> updateProjectStatus(@PathVariable Long id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                 @RequestBody ProjectStatus status) {
         try {
-            Project updatedProject = projectService.updateStatus(id, status);
-            return ResponseEntity.ok(updatedProject);
+            ProjectView updatedProject = projectService.updateStatus(id, status, VersionTag.parse(ifMatch));
+            return ResponseEntity.ok().eTag(VersionTag.of(updatedProject.version())).body(updatedProject);
+        } catch (OptimisticLockingFailureException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
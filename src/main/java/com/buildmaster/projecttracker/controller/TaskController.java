@@ -1,22 +1,45 @@
 package com.buildmaster.projecttracker.controller;
 
 import com.buildmaster.projecttracker.dto.AssignTaskRequest;
+import com.buildmaster.projecttracker.dto.BulkAssignResult;
+import com.buildmaster.projecttracker.dto.BulkImportResult;
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.dto.TaskExportFilter;
+import com.buildmaster.projecttracker.dto.TaskImportRequest;
+import com.buildmaster.projecttracker.dto.TaskView;
 import com.buildmaster.projecttracker.entity.Task;
+import com.buildmaster.projecttracker.enums.ExportFormat;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.service.ArchiveService;
+import com.buildmaster.projecttracker.service.ExportService;
+import com.buildmaster.projecttracker.service.TaskImportService;
 import com.buildmaster.projecttracker.service.TaskService;
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,10 +52,16 @@ import java.util.Optional;
 @PreAuthorize("hasRole('ADMIN')")
 public class TaskController {
 
+    private static final int MAX_BULK_ASSIGNMENTS = 1000;
+
     private final TaskService taskService;
+    private final ArchiveService archiveService;
+    private final TaskImportService taskImportService;
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<Page<Task>> getAllTasks(
+    public ResponseEntity<Page<TaskView>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
@@ -43,7 +72,7 @@ public class TaskController {
                     Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
             Pageable pageable = PageRequest.of(page, size, sort);
-            Page<Task> tasks = taskService.findAll(pageable);
+            Page<TaskView> tasks = taskService.findAll(pageable);
 
             log.info("Retrieved {} tasks", tasks.getTotalElements());
             return ResponseEntity.ok(tasks);
@@ -53,10 +82,64 @@ public class TaskController {
         }
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollTasks(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            Sort sort = KeysetCursor.seekSort(sortBy, sortDir, TaskService.SEEK_KEYS);
+            ScrollPosition position = KeysetCursor.decode(after, TaskService.SEEK_KEYS);
+            CursorPage<TaskView> tasks = taskService.scroll(position, sort,
+                    Math.max(1, Math.min(size, 100)), includeTotal);
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Streams every task matching the filters as CSV or NDJSON, read through a database cursor,
+     * so the export runs in constant memory however many rows it covers.
+     * @param format "csv" or "ndjson".
+     * @param from The earliest creation date to include.
+     * @param to The latest creation date to include.
+     * @return The streamed export, or an error for an unknown format or inverted range.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportTasks(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long developerId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        try {
+            ExportFormat exportFormat = ExportFormat.from(format);
+            TaskExportFilter filter = new TaskExportFilter(projectId, developerId, status, from, to);
+            StreamingResponseBody body = out -> exportService.exportTasks(filter, exportFormat, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename("tasks." + exportFormat.getExtension()).build().toString())
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskView> getTaskById(@PathVariable Long id) {
         try {
-            Optional<Task> task = taskService.findById(id);
+            Optional<TaskView> task = taskService.findById(id);
             return task.map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
@@ -66,14 +149,15 @@ public class TaskController {
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<Page<Task>> getTasksByProject(
+    public ResponseEntity<Page<TaskView>> getTasksByProject(
             @PathVariable Long projectId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Task> tasks = taskService.findByProjectId(projectId, pageable);
+            Page<TaskView> tasks = archiveService.findTasksByProjectId(projectId, pageable, includeArchived);
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
             log.error("Error retrieving tasks for project: {}", projectId, e);
@@ -83,14 +167,14 @@ public class TaskController {
 
     @PreAuthorize("hasRole('DEVELOPER')")
     @GetMapping("/developer/{developerId}")
-    public ResponseEntity<Page<Task>> getTasksByDeveloper(
+    public ResponseEntity<Page<TaskView>> getTasksByDeveloper(
             @PathVariable Long developerId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Task> tasks = taskService.findByDeveloperId(developerId, pageable);
+            Page<TaskView> tasks = taskService.findByDeveloperId(developerId, pageable);
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
             log.error("Error retrieving tasks for developer: {}", developerId, e);
@@ -112,11 +196,32 @@ public class TaskController {
         }
     }
 
+    /**
+     * Imports tasks from a JSON array or newline-delimited JSON body. Rows are parsed one at a
+     * time and inserted in batches, so the body is never held in memory as a whole.
+     * @param request The incoming request whose body holds the rows.
+     * @return The import summary, including the rows that were rejected and why.
+     */
+    @PreAuthorize("hasRole('MANAGER')")
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> importTasks(HttpServletRequest request) {
+        try (MappingIterator<TaskImportRequest> rows = objectMapper.readerFor(TaskImportRequest.class)
+                .readValues(request.getInputStream())) {
+            BulkImportResult result = taskImportService.importTasks(rows);
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            log.error("Error reading bulk task import", e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @PreAuthorize("hasRole('DEVELOPER')")
     @PutMapping("/{id}")
     public ResponseEntity<?> updateTask(@PathVariable Long id, @Valid @RequestBody Task task) {
         try {
-            Optional<Task> existingTask = taskService.findById(id);
+            Optional<Task> existingTask = taskService.findEntityById(id);
             if (existingTask.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
@@ -151,7 +256,7 @@ public class TaskController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteTask(@PathVariable Long id) {
         try {
-            Optional<Task> task = taskService.findById(id);
+            Optional<TaskView> task = taskService.findById(id);
             if (task.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
@@ -180,10 +285,29 @@ public class TaskController {
         }
     }
 
+    @PreAuthorize("hasRole('MANAGER')")
+    @PostMapping("/assign/bulk")
+    public ResponseEntity<?> assignTasksToDevelopers(@RequestBody List<AssignTaskRequest> requests) {
+        if (requests.size() > MAX_BULK_ASSIGNMENTS) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "At most " + MAX_BULK_ASSIGNMENTS + " assignments are allowed per request");
+            return ResponseEntity.badRequest().body(error);
+        }
+        try {
+            BulkAssignResult result = taskService.assignTasksToDevelopers(requests);
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            log.error("Error applying {} bulk assignments", requests.size(), e);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/overdue")
-    public ResponseEntity<List<Task>> getOverdueTasks() {
+    public ResponseEntity<List<TaskView>> getOverdueTasks() {
         try {
-            List<Task> tasks = taskService.findOverdueTasks();
+            List<TaskView> tasks = taskService.findOverdueTasks();
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
             log.error("Error retrieving overdue tasks", e);
@@ -1,11 +1,15 @@
 package com.buildmaster.projecttracker.controller;
 
+import com.buildmaster.projecttracker.dto.CursorPage;
 import com.buildmaster.projecttracker.entity.User;
 import com.buildmaster.projecttracker.service.UserService;
+import com.buildmaster.projecttracker.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -38,6 +42,26 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<?> scrollUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        try {
+            Sort sort = KeysetCursor.seekSort(sortBy, sortDir, UserService.SEEK_KEYS);
+            ScrollPosition position = KeysetCursor.decode(after, UserService.SEEK_KEYS);
+            CursorPage<User> users = userService.scroll(position, sort, Math.max(1, Math.min(size, 100)), includeTotal);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
         return userService.findById(id)
@@ -59,15 +83,26 @@ public class UserController {
         }
     }
 
+    /**
+     * Type-ahead search over username and email, closest matches first.
+     * @param email The search text; blank lists all users.
+     * @return A slice of matches, or an error for a query that is too short.
+     */
     @GetMapping("/search")
-    public ResponseEntity<Page<User>> searchUsers(
+    public ResponseEntity<?> searchUsers(
             @RequestParam(required = false) String email,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<User> users = userService.searchUsers(email, pageable);
-        return ResponseEntity.ok(users);
+        try {
+            Pageable pageable = PageRequest.of(page, Math.min(size, 100));
+            Slice<User> users = userService.searchUsers(email, pageable);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
 }
\ No newline at end of file
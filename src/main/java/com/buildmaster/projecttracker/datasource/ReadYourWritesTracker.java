@@ -0,0 +1,74 @@
+package com.buildmaster.projecttracker.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers who just committed a write, so their following reads are not sent to a replica
+ * that may not have replayed it yet. Stickiness applies to the committing thread, which covers
+ * the rest of the request, and to the authenticated user, which covers their next requests.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final ThreadLocal<Long> lastWriteOnThread = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriters;
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            markWrite();
+        }
+    }
+
+    /**
+     * Records a write by the current thread and user.
+     */
+    public void markWrite() {
+        lastWriteOnThread.set(System.nanoTime());
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Tells whether reads should stay on the primary because of a recent write.
+     * @return True if the current thread or user wrote within the stickiness window.
+     */
+    public boolean shouldReadFromPrimary() {
+        Long lastWrite = lastWriteOnThread.get();
+        if (lastWrite != null) {
+            if (System.nanoTime() - lastWrite < windowNanos) {
+                return true;
+            }
+            lastWriteOnThread.remove();
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,157 @@
+package com.buildmaster.projecttracker.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out read connections from a pool of replicas in round-robin order. A replica is skipped while
+ * its last health check failed or its replay lag exceeds the threshold, and reads fall back to the
+ * primary when no replica is usable or the caller must see its own recent write.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, ReadYourWritesTracker readYourWrites,
+                                    Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replicas.isEmpty() && !readYourWrites.shouldReadFromPrimary()) {
+            int start = next.getAndIncrement();
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+                if (!replica.isUsable(maxLag)) {
+                    continue;
+                }
+                try {
+                    return replica.getDataSource().getConnection();
+                } catch (SQLException e) {
+                    replica.markDown(e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing uses the configured credentials only");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkReplicas();
+    }
+
+    /**
+     * Measures every replica's health and replay lag.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                result.next();
+                replica.markUp(Duration.ofMillis(Math.round(result.getDouble(1) * 1000)), maxLag);
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * A replica and its last observed state.
+     */
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile Duration lag = Duration.ZERO;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public Duration getLag() {
+            return lag;
+        }
+
+        boolean isUsable(Duration maxLag) {
+            return healthy && lag.compareTo(maxLag) <= 0;
+        }
+
+        void markUp(Duration observedLag, Duration maxLag) {
+            boolean wasUsable = isUsable(maxLag);
+            healthy = true;
+            lag = observedLag;
+            if (!wasUsable && isUsable(maxLag)) {
+                log.info("Replica {} is serving reads (lag {})", name, observedLag);
+            } else if (wasUsable && !isUsable(maxLag)) {
+                log.warn("Replica {} lags by {}, reads fall back until it catches up", name, observedLag);
+            }
+        }
+
+        void markDown(SQLException cause) {
+            if (healthy) {
+                log.warn("Replica {} is unavailable, reads fall back: {}", name, cause.getMessage());
+            }
+            healthy = false;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for an audit log search. Null fields do not filter; the time range includes
+ * {@code from} and excludes {@code to}.
+ */
+public record AuditLogFilter(
+        String entityType,
+        String entityId,
+        String actionType,
+        String userId,
+        String username,
+        Boolean success,
+        LocalDateTime from,
+        LocalDateTime to) {
+
+    public AuditLogFilter {
+        if (entityId != null && entityType == null) {
+            throw new IllegalArgumentException("entityId requires entityType");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+}
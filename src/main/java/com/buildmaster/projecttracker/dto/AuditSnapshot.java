@@ -0,0 +1,16 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * The state of an entity right after one of its audit events, rebuilt from the audit trail.
+ * @param auditLogId The id of the audit log that produced this state.
+ * @param state The entity's fields as the full audit payloads record them.
+ */
+public record AuditSnapshot(
+        String auditLogId,
+        String actionType,
+        LocalDateTime timestamp,
+        Map<String, String> state) {
+}
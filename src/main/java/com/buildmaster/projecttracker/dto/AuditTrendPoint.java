@@ -0,0 +1,10 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The number of audit events in one time bucket.
+ * @param bucket The start of the bucket.
+ */
+public record AuditTrendPoint(LocalDateTime bucket, long count) {
+}
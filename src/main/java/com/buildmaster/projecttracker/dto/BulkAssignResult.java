@@ -0,0 +1,15 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk assignment.
+ * @param requested The number of distinct tasks in the request.
+ * @param assigned The number of tasks now assigned to the requested developer.
+ * @param errors The assignments that were rejected, with the reason.
+ */
+public record BulkAssignResult(int requested, int assigned, List<AssignmentError> errors) {
+
+    public record AssignmentError(Long taskId, Long developerId, String message) {
+    }
+}
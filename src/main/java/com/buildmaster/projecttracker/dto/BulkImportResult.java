@@ -0,0 +1,16 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Rows are numbered from 1 in the order they were received.
+ * @param received The number of rows read from the request body.
+ * @param created The number of rows inserted.
+ * @param rejected The number of rows that were rejected.
+ * @param errors The first rejected rows, up to {@code app.tasks.import.max-errors}, with the reason.
+ */
+public record BulkImportResult(int received, int created, int rejected, List<RowError> errors) {
+
+    public record RowError(int row, String message) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing.
+ * @param content The rows in this slice.
+ * @param size The number of rows in this slice.
+ * @param hasNext Whether another slice follows.
+ * @param nextCursor The token to pass as "after" for the next slice, or null on the last one.
+ * @param totalElements The total row count, only present when explicitly requested.
+ */
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor, Long totalElements) {
+
+    public static <T> CursorPage<T> of(Window<T> window, Long totalElements) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? KeysetCursor.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPage<>(window.getContent(), window.size(), window.hasNext(), nextCursor, totalElements);
+    }
+}
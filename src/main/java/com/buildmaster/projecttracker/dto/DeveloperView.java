@@ -0,0 +1,20 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable read model of a Developer, without its task collection. The version is the optimistic
+ * lock value a client sends back as If-Match on conditional updates.
+ */
+public record DeveloperView(
+        Long id,
+        String name,
+        String email,
+        String skills,
+        Long userId,
+        List<String> roles,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version) {
+}
@@ -0,0 +1,21 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for a project export. Null fields do not filter; the date range applies to
+ * the creation date and includes both ends.
+ */
+public record ProjectExportFilter(
+        ProjectStatus status,
+        LocalDate from,
+        LocalDate to) {
+
+    public ProjectExportFilter {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard aggregate of one project's tasks.
+ * @param byStatus The task count for every status, including zeroes.
+ * @param overdue Open tasks whose due date has passed.
+ * @param earliestDueDate The earliest due date of any task, or null if none has one.
+ * @param latestDueDate The latest due date of any task, or null if none has one.
+ * @param developers Per-developer counts for the assigned tasks, ordered by developer id.
+ */
+public record ProjectSummary(
+        Long projectId,
+        String projectName,
+        ProjectStatus projectStatus,
+        LocalDate deadline,
+        long totalTasks,
+        Map<TaskStatus, Long> byStatus,
+        long overdue,
+        long assigned,
+        long unassigned,
+        LocalDate earliestDueDate,
+        LocalDate latestDueDate,
+        List<DeveloperSummary> developers) {
+
+    public record DeveloperSummary(Long id, String name, long totalTasks, Map<TaskStatus, Long> byStatus, long overdue) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable read model of a Project, without its task collection. The version is the optimistic
+ * lock value a client sends back as If-Match on conditional updates.
+ */
+public record ProjectView(
+        Long id,
+        String name,
+        String description,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate deadline,
+        ProjectStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version) {
+}
@@ -0,0 +1,14 @@
+package com.buildmaster.projecttracker.dto;
+
+import java.util.List;
+
+/**
+ * Developers matching a boolean skill expression.
+ * @param matched The number of developers satisfying the expression.
+ * @param developers The least loaded matches, ordered by open tasks and then id.
+ */
+public record SkillMatchResult(int matched, List<DeveloperMatch> developers) {
+
+    public record DeveloperMatch(Long id, String name, List<String> skills, long openTasks) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for a task export. Null fields do not filter; the date range applies to
+ * the creation date and includes both ends.
+ */
+public record TaskExportFilter(
+        Long projectId,
+        Long developerId,
+        TaskStatus status,
+        LocalDate from,
+        LocalDate to) {
+
+    public TaskExportFilter {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRequest {
+
+    @NotBlank(message = "Task title is required")
+    @Size(max = 200, message = "Title cannot exceed 200 characters")
+    private String title;
+
+    @Size(max = 1000, message = "Description cannot exceed 1000 characters")
+    private String description;
+
+    private TaskStatus status;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private LocalDate dueDate;
+
+    @NotNull(message = "Task must belong to a project")
+    private Long projectId;
+
+    private Long developerId;
+}
@@ -0,0 +1,26 @@
+package com.buildmaster.projecttracker.dto;
+
+import com.buildmaster.projecttracker.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable read model of a Task. Built once inside the persistence context and safe to
+ * cache and serialize without touching lazy associations.
+ */
+public record TaskView(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long projectId,
+        String projectName,
+        Long developerId,
+        String developerName) {
+}
@@ -1,11 +1,13 @@
 package com.buildmaster.projecttracker.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,7 +16,11 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "developers")
+@Table(name = "developers", indexes = {
+        @Index(name = "idx_developers_name_id", columnList = "name, id"),
+        @Index(name = "idx_developers_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_developers_task_count_id", columnList = "task_count, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -47,9 +53,18 @@ public class Developer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Embedded
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Builder.Default
+    private TaskCounts taskCounts = new TaskCounts();
+
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
-    @JsonIgnoreProperties({"developer", "password", "roles"})
+    @JsonIgnoreProperties({"developer", "password", "roles", "hibernateLazyInitializer", "handler"})
     private User user;
 
     @OneToMany(mappedBy = "developer", cascade = CascadeType.ALL)
@@ -58,6 +73,7 @@ public class Developer {
     private List<Task> tasks = new ArrayList<>();
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
     @JoinTable(
         name = "developer_roles",
         joinColumns = @JoinColumn(name = "developer_id"),
@@ -2,6 +2,7 @@ package com.buildmaster.projecttracker.entity;
 
 import com.buildmaster.projecttracker.enums.ProjectStatus;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -14,7 +15,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_name_id", columnList = "name, id"),
+        @Index(name = "idx_projects_deadline_id", columnList = "deadline, id"),
+        @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_projects_task_count_id", columnList = "task_count, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -56,6 +62,15 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Embedded
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Builder.Default
+    private TaskCounts taskCounts = new TaskCounts();
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties({"project", "hibernateLazyInitializer", "handler"})
     @Builder.Default
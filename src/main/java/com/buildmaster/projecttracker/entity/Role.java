@@ -5,12 +5,19 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Roles are read on every user load but almost never change, so they live in the Hibernate
+ * second-level cache together with each user's role ids.
+ */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.CACHE_REGION)
 @Table(name = "roles", indexes = {
         @Index(name = "idx_role_name", columnList = "name", unique = true)
 })
@@ -46,6 +53,10 @@ public class Role {
     @Builder.Default
     private Set<User> users = new HashSet<>();
 
+    public static final String CACHE_REGION = "roles";
+    public static final String QUERY_CACHE_REGION = "roles-by-name";
+    public static final String USER_ROLES_CACHE_REGION = "user-roles";
+
     public static final String ROLE_ADMIN = "ROLE_ADMIN";
     public static final String ROLE_MANAGER = "ROLE_MANAGER";
     public static final String ROLE_DEVELOPER = "ROLE_DEVELOPER";
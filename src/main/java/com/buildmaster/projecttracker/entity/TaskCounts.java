@@ -0,0 +1,61 @@
+package com.buildmaster.projecttracker.entity;
+
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Denormalized task counters shared by developers and projects. The columns are never written
+ * through the entity: they are maintained with atomic increments by
+ * {@link com.buildmaster.projecttracker.service.TaskCounterService}, so a stale entity being
+ * saved cannot overwrite them.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounts {
+
+    @ColumnDefault("0")
+    @Column(name = "task_count", nullable = false, insertable = false, updatable = false)
+    private long total;
+
+    @ColumnDefault("0")
+    @Column(name = "todo_count", nullable = false, insertable = false, updatable = false)
+    private long todo;
+
+    @ColumnDefault("0")
+    @Column(name = "in_progress_count", nullable = false, insertable = false, updatable = false)
+    private long inProgress;
+
+    @ColumnDefault("0")
+    @Column(name = "in_review_count", nullable = false, insertable = false, updatable = false)
+    private long inReview;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_count", nullable = false, insertable = false, updatable = false)
+    private long completed;
+
+    @ColumnDefault("0")
+    @Column(name = "blocked_count", nullable = false, insertable = false, updatable = false)
+    private long blocked;
+
+    /**
+     * Returns the name of the attribute counting tasks in the given status, for use in JPQL paths.
+     * @param status The task status.
+     * @return The attribute name.
+     */
+    public static String attributeFor(TaskStatus status) {
+        return switch (status) {
+            case TODO -> "todo";
+            case IN_PROGRESS -> "inProgress";
+            case IN_REVIEW -> "inReview";
+            case COMPLETED -> "completed";
+            case BLOCKED -> "blocked";
+        };
+    }
+}
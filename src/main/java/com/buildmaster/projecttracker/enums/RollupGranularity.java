@@ -0,0 +1,52 @@
+package com.buildmaster.projecttracker.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The bucket sizes audit events are counted in, each kept in its own collection.
+ */
+public enum RollupGranularity {
+    MINUTE("audit_rollups_minute", ChronoUnit.MINUTES),
+    HOUR("audit_rollups_hour", ChronoUnit.HOURS),
+    DAY("audit_rollups_day", ChronoUnit.DAYS);
+
+    private final String collection;
+    private final ChronoUnit unit;
+
+    RollupGranularity(String collection, ChronoUnit unit) {
+        this.collection = collection;
+        this.unit = unit;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return The start of the bucket the time falls into.
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Resolves the granularity named in a request parameter.
+     * @param name The granularity name, case-insensitive.
+     * @return The matching granularity.
+     * @throws IllegalArgumentException if no granularity has that name.
+     */
+    public static RollupGranularity from(String name) {
+        return Arrays.stream(values())
+                .filter(granularity -> granularity.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("granularity must be one of "
+                        + Arrays.toString(values()).toLowerCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,26 @@
+package com.buildmaster.projecttracker.mapper;
+
+import com.buildmaster.projecttracker.dto.DeveloperView;
+import com.buildmaster.projecttracker.entity.Developer;
+import com.buildmaster.projecttracker.entity.Role;
+
+import java.util.List;
+
+public class DeveloperViewMapper {
+    public static DeveloperView toView(Developer developer) {
+        if (developer == null) return null;
+        List<String> roles = developer.getRoles() != null
+                ? developer.getRoles().stream().map(Role::getName).sorted().toList()
+                : List.of();
+        return new DeveloperView(
+                developer.getId(),
+                developer.getName(),
+                developer.getEmail(),
+                developer.getSkills(),
+                developer.getUserId(),
+                roles,
+                developer.getCreatedAt(),
+                developer.getUpdatedAt(),
+                developer.getVersion());
+    }
+}
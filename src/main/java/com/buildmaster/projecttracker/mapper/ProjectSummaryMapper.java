@@ -0,0 +1,103 @@
+package com.buildmaster.projecttracker.mapper;
+
+import com.buildmaster.projecttracker.dto.ProjectSummary;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.ProjectRepository.ProjectSummaryRow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Folds the (developer, status) groups of {@link com.buildmaster.projecttracker.repository.ProjectRepository#summarize}
+ * into one {@link ProjectSummary}.
+ */
+public class ProjectSummaryMapper {
+
+    /**
+     * @param rows The groups of one project; a project without tasks yields a single row with a null status.
+     * @return The summary, or null if there are no rows, i.e. the project does not exist.
+     */
+    public static ProjectSummary toSummary(List<ProjectSummaryRow> rows) {
+        if (rows.isEmpty()) return null;
+        ProjectSummaryRow project = rows.get(0);
+        Map<TaskStatus, Long> byStatus = zeroCounts();
+        Map<Long, DeveloperTotals> developers = new TreeMap<>();
+        long total = 0;
+        long overdue = 0;
+        long assigned = 0;
+        LocalDate earliest = null;
+        LocalDate latest = null;
+
+        for (ProjectSummaryRow row : rows) {
+            if (row.getStatus() == null) {
+                continue;
+            }
+            total += row.getTaskCount();
+            overdue += row.getOverdueCount();
+            byStatus.merge(row.getStatus(), row.getTaskCount(), Long::sum);
+            earliest = min(earliest, row.getEarliestDueDate());
+            latest = max(latest, row.getLatestDueDate());
+            if (row.getDeveloperId() != null) {
+                assigned += row.getTaskCount();
+                developers.computeIfAbsent(row.getDeveloperId(), id -> new DeveloperTotals(row.getDeveloperName()))
+                        .add(row);
+            }
+        }
+
+        List<ProjectSummary.DeveloperSummary> developerSummaries = new ArrayList<>(developers.size());
+        developers.forEach((id, totals) -> developerSummaries.add(new ProjectSummary.DeveloperSummary(
+                id, totals.name, totals.total, Collections.unmodifiableMap(totals.byStatus), totals.overdue)));
+        return new ProjectSummary(
+                project.getProjectId(),
+                project.getProjectName(),
+                project.getProjectStatus(),
+                project.getDeadline(),
+                total,
+                Collections.unmodifiableMap(byStatus),
+                overdue,
+                assigned,
+                total - assigned,
+                earliest,
+                latest,
+                List.copyOf(developerSummaries));
+    }
+
+    private static Map<TaskStatus, Long> zeroCounts() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private static LocalDate min(LocalDate current, LocalDate candidate) {
+        return current == null || (candidate != null && candidate.isBefore(current)) ? candidate : current;
+    }
+
+    private static LocalDate max(LocalDate current, LocalDate candidate) {
+        return current == null || (candidate != null && candidate.isAfter(current)) ? candidate : current;
+    }
+
+    private static class DeveloperTotals {
+
+        private final String name;
+        private final Map<TaskStatus, Long> byStatus = zeroCounts();
+        private long total;
+        private long overdue;
+
+        DeveloperTotals(String name) {
+            this.name = name;
+        }
+
+        void add(ProjectSummaryRow row) {
+            total += row.getTaskCount();
+            overdue += row.getOverdueCount();
+            byStatus.merge(row.getStatus(), row.getTaskCount(), Long::sum);
+        }
+    }
+}
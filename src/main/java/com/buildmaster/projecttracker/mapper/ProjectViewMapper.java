@@ -0,0 +1,21 @@
+package com.buildmaster.projecttracker.mapper;
+
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.entity.Project;
+
+public class ProjectViewMapper {
+    public static ProjectView toView(Project project) {
+        if (project == null) return null;
+        return new ProjectView(
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                project.getStartDate(),
+                project.getEndDate(),
+                project.getDeadline(),
+                project.getStatus(),
+                project.getCreatedAt(),
+                project.getUpdatedAt(),
+                project.getVersion());
+    }
+}
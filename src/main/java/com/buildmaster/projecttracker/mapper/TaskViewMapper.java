@@ -0,0 +1,28 @@
+package com.buildmaster.projecttracker.mapper;
+
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.entity.Developer;
+import com.buildmaster.projecttracker.entity.Project;
+import com.buildmaster.projecttracker.entity.Task;
+
+public class TaskViewMapper {
+    public static TaskView toView(Task task) {
+        if (task == null) return null;
+        Project project = task.getProject();
+        Developer developer = task.getDeveloper();
+        return new TaskView(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getStartDate(),
+                task.getEndDate(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                project != null ? project.getId() : null,
+                project != null ? project.getName() : null,
+                developer != null ? developer.getId() : null,
+                developer != null ? developer.getName() : null);
+    }
+}
@@ -0,0 +1,209 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves completed projects and their tasks between the live tables and the {@code projects_archive}
+ * and {@code tasks_archive} tables, and reads archived rows as the same read models as live ones.
+ * Moves are set-based {@code DELETE ... RETURNING} statements, so a batch of projects costs a fixed
+ * number of statements however many tasks it has. Callers provide the transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveRepository {
+
+    static final String PROJECT_COLUMNS = "id, name, description, start_date, end_date, deadline, status, "
+            + "created_at, updated_at, task_count, todo_count, in_progress_count, in_review_count, completed_count, "
+            + "blocked_count, version";
+    /**
+     * PROJECT_COLUMNS as selected for a restore: the project counts as changed now, so the next archive
+     * run does not move it straight back.
+     */
+    private static final String RESTORED_PROJECT_VALUES = "id, name, description, start_date, end_date, deadline, "
+            + "status, created_at, now(), task_count, todo_count, in_progress_count, in_review_count, completed_count, "
+            + "blocked_count, version";
+    static final String TASK_COLUMNS = "id, title, description, status, start_date, end_date, due_date, "
+            + "created_at, updated_at, project_id, developer_id";
+
+    private static final String PROJECT_VIEW_COLUMNS = "id, name, description, start_date, end_date, deadline, "
+            + "status, created_at, updated_at, version";
+    private static final String TASK_VIEW_SELECT = "SELECT t.id, t.title, t.description, t.status, t.start_date, "
+            + "t.end_date, t.due_date, t.created_at, t.updated_at, t.project_id, p.name AS project_name, "
+            + "t.developer_id, d.name AS developer_name "
+            + "FROM tasks_archive t JOIN projects_archive p ON p.id = t.project_id "
+            + "LEFT JOIN developers d ON d.id = t.developer_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Locks and returns the oldest completed projects that have not changed since the cutoff.
+     * Rows locked by a concurrent archiver or writer are skipped rather than waited for.
+     * @param changedBefore Only projects last changed before this time are returned.
+     * @param limit The batch size.
+     * @return The project ids, oldest first.
+     */
+    public List<Long> findArchivableProjectIds(LocalDateTime changedBefore, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM projects "
+                        + "WHERE status = 'COMPLETED' AND COALESCE(updated_at, created_at) < :changedBefore "
+                        + "ORDER BY COALESCE(updated_at, created_at), id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                new MapSqlParameterSource("changedBefore", changedBefore).addValue("limit", limit), Long.class);
+    }
+
+    /**
+     * Counts the assigned tasks of the given projects per developer and status, i.e. what the
+     * developers' task counters include for them.
+     * @param projectIds The project ids.
+     * @param archived Whether to count the archived or the live tasks.
+     * @return One row per developer and status.
+     */
+    public List<AssignedTasks> countAssignedTasks(Collection<Long> projectIds, boolean archived) {
+        return jdbcTemplate.query("SELECT developer_id, status, COUNT(*) AS tasks FROM "
+                        + (archived ? "tasks_archive" : "tasks")
+                        + " WHERE project_id IN (:ids) AND developer_id IS NOT NULL GROUP BY developer_id, status",
+                new MapSqlParameterSource("ids", projectIds),
+                (rs, row) -> new AssignedTasks(rs.getLong("developer_id"), TaskStatus.valueOf(rs.getString("status")),
+                        rs.getLong("tasks")));
+    }
+
+    /**
+     * Moves the projects and all of their tasks into the archive tables.
+     * @param projectIds The ids of projects to archive, locked by the caller.
+     * @param archivedAt The archive timestamp to record.
+     * @return The ids of the archived tasks.
+     */
+    public List<Long> archive(Collection<Long> projectIds, LocalDateTime archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", projectIds).addValue("archivedAt", archivedAt);
+        jdbcTemplate.update("INSERT INTO projects_archive (" + PROJECT_COLUMNS + ", archived_at) "
+                + "SELECT " + PROJECT_COLUMNS + ", :archivedAt FROM projects WHERE id IN (:ids)", parameters);
+        List<Long> taskIds = jdbcTemplate.queryForList("WITH moved AS ("
+                + "DELETE FROM tasks WHERE project_id IN (:ids) RETURNING " + TASK_COLUMNS + ") "
+                + "INSERT INTO tasks_archive (" + TASK_COLUMNS + ", archived_at) "
+                + "SELECT " + TASK_COLUMNS + ", :archivedAt FROM moved RETURNING id", parameters, Long.class);
+        jdbcTemplate.update("DELETE FROM projects WHERE id IN (:ids)", parameters);
+        return taskIds;
+    }
+
+    /**
+     * Moves an archived project and its tasks back into the live tables, with their original ids.
+     * The project's {@code updated_at} is set to now, which restarts its archiving cutoff.
+     * @param projectId The id of the archived project.
+     * @return The ids of the restored tasks, or empty if the project is not archived.
+     */
+    public Optional<List<Long>> restore(Long projectId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", projectId);
+        int restored = jdbcTemplate.update("INSERT INTO projects (" + PROJECT_COLUMNS + ") "
+                + "SELECT " + RESTORED_PROJECT_VALUES + " FROM projects_archive WHERE id = :id", parameters);
+        if (restored == 0) {
+            return Optional.empty();
+        }
+        List<Long> taskIds = jdbcTemplate.queryForList("WITH moved AS ("
+                + "DELETE FROM tasks_archive WHERE project_id = :id RETURNING " + TASK_COLUMNS + ") "
+                + "INSERT INTO tasks (" + TASK_COLUMNS + ") SELECT " + TASK_COLUMNS + " FROM moved RETURNING id",
+                parameters, Long.class);
+        jdbcTemplate.update("DELETE FROM projects_archive WHERE id = :id", parameters);
+        return Optional.of(taskIds);
+    }
+
+    public boolean isArchived(Long projectId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM projects_archive WHERE id = :id)",
+                new MapSqlParameterSource("id", projectId), Boolean.class));
+    }
+
+    public Optional<ProjectView> findProject(Long projectId) {
+        return jdbcTemplate.query("SELECT " + PROJECT_VIEW_COLUMNS + " FROM projects_archive WHERE id = :id",
+                new MapSqlParameterSource("id", projectId), ArchiveRepository::toProjectView).stream().findFirst();
+    }
+
+    /**
+     * Pages live and archived projects with the given status together, in id order.
+     */
+    public Page<ProjectView> findProjectsByStatusIncludingArchived(ProjectStatus status, Pageable pageable) {
+        String union = "SELECT " + PROJECT_VIEW_COLUMNS + " FROM projects WHERE status = :status "
+                + "UNION ALL SELECT " + PROJECT_VIEW_COLUMNS + " FROM projects_archive WHERE status = :status";
+        MapSqlParameterSource parameters = paged(pageable).addValue("status", status.name());
+        List<ProjectView> content = jdbcTemplate.query("SELECT * FROM (" + union + ") p ORDER BY id "
+                + "LIMIT :limit OFFSET :offset", parameters, ArchiveRepository::toProjectView);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + union + ") p", parameters, Long.class);
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * Pages the tasks of an archived project in id order.
+     */
+    public Page<TaskView> findTasksByProjectId(Long projectId, Pageable pageable) {
+        MapSqlParameterSource parameters = paged(pageable).addValue("projectId", projectId);
+        List<TaskView> content = jdbcTemplate.query(TASK_VIEW_SELECT + " WHERE t.project_id = :projectId "
+                + "ORDER BY t.id LIMIT :limit OFFSET :offset", parameters, ArchiveRepository::toTaskView);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks_archive WHERE project_id = :projectId",
+                parameters, Long.class);
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    private static MapSqlParameterSource paged(Pageable pageable) {
+        return new MapSqlParameterSource("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+    }
+
+    private static ProjectView toProjectView(ResultSet rs, int row) throws SQLException {
+        return new ProjectView(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                date(rs, "start_date"),
+                date(rs, "end_date"),
+                date(rs, "deadline"),
+                ProjectStatus.valueOf(rs.getString("status")),
+                timestamp(rs, "created_at"),
+                timestamp(rs, "updated_at"),
+                rs.getLong("version"));
+    }
+
+    private static TaskView toTaskView(ResultSet rs, int row) throws SQLException {
+        return new TaskView(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                TaskStatus.valueOf(rs.getString("status")),
+                date(rs, "start_date"),
+                date(rs, "end_date"),
+                date(rs, "due_date"),
+                timestamp(rs, "created_at"),
+                timestamp(rs, "updated_at"),
+                rs.getLong("project_id"),
+                rs.getString("project_name"),
+                rs.getObject("developer_id", Long.class),
+                rs.getString("developer_name"));
+    }
+
+    private static LocalDate date(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, LocalDate.class);
+    }
+
+    private static LocalDateTime timestamp(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, LocalDateTime.class);
+    }
+
+    /**
+     * The number of tasks of one developer and status in a set of projects.
+     */
+    public record AssignedTasks(Long developerId, TaskStatus status, long tasks) {
+    }
+}
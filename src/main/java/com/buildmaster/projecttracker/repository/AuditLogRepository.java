@@ -1,28 +1,32 @@
 package com.buildmaster.projecttracker.repository;
 
 import com.buildmaster.projecttracker.audit.AuditLog;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Reads audit logs. Listings return slices rather than pages, so they never count the collection;
+ * {@link com.buildmaster.projecttracker.service.AuditService#search} pages by keyset instead of offset.
+ */
 @Repository
 public interface AuditLogRepository extends MongoRepository<AuditLog, String> {
 
-    Page<AuditLog> findByActionType(String actionType, Pageable pageable);
+    Slice<AuditLog> findByActionType(String actionType, Pageable pageable);
 
-    Page<AuditLog> findByEntityType(String entityType, Pageable pageable);
+    Slice<AuditLog> findByEntityType(String entityType, Pageable pageable);
 
-    Page<AuditLog> findByUserId(String userId, Pageable pageable);
+    Slice<AuditLog> findByUserId(String userId, Pageable pageable);
 
-    Page<AuditLog> findByUsername(String username, Pageable pageable);
+    Slice<AuditLog> findByUsername(String username, Pageable pageable);
 
-    Page<AuditLog> findBySuccessFalse(Pageable pageable);
+    Slice<AuditLog> findBySuccessFalse(Pageable pageable);
 
-    Page<AuditLog> findByTimestampBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    Slice<AuditLog> findByTimestampBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
     List<AuditLog> findByActionTypeAndSuccessFalseAndTimestampAfter(String actionType, LocalDateTime since);
 
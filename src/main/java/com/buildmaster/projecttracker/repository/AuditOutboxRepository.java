@@ -0,0 +1,96 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.audit.AuditLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@code audit_outbox} table: audit events waiting to be relayed to Mongo. Callers provide the transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditOutboxRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Inserts the events with one batched statement, each under a fresh event id.
+     * @param auditLogs The events to store.
+     */
+    public void append(Collection<AuditLog> auditLogs) {
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource[] rows = auditLogs.stream()
+                .map(auditLog -> new MapSqlParameterSource("eventId", UUID.randomUUID())
+                        .addValue("createdAt", now)
+                        .addValue("document", toJson(auditLog)))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("INSERT INTO audit_outbox (event_id, created_at, document) "
+                + "VALUES (:eventId, :createdAt, CAST(:document AS jsonb))", rows);
+    }
+
+    /**
+     * Locks the oldest events in insertion order. Events locked by another relay are skipped.
+     * @param limit The batch size.
+     * @return The events, oldest first.
+     */
+    public List<OutboxEvent> lockNextBatch(int limit) {
+        return jdbcTemplate.query("SELECT id, event_id, created_at, document FROM audit_outbox "
+                        + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                new MapSqlParameterSource("limit", limit),
+                (rs, row) -> new OutboxEvent(rs.getLong("id"), rs.getObject("event_id", UUID.class),
+                        rs.getObject("created_at", LocalDateTime.class), fromJson(rs.getString("document"))));
+    }
+
+    public int delete(Collection<Long> ids) {
+        return jdbcTemplate.update("DELETE FROM audit_outbox WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * @return The number of undelivered events and the creation time of the oldest one.
+     */
+    public OutboxBacklog backlog() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM audit_outbox",
+                new MapSqlParameterSource(),
+                (rs, row) -> new OutboxBacklog(rs.getLong("pending"), rs.getObject("oldest", LocalDateTime.class)));
+    }
+
+    private String toJson(AuditLog auditLog) {
+        try {
+            return objectMapper.writeValueAsString(auditLog);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize audit log " + auditLog.getActionType(), e);
+        }
+    }
+
+    private AuditLog fromJson(String document) {
+        try {
+            return objectMapper.readValue(document, AuditLog.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable audit outbox document", e);
+        }
+    }
+
+    /**
+     * One undelivered audit event.
+     * @param id The outbox row id, which orders delivery.
+     * @param eventId The id the event is stored under in Mongo.
+     */
+    public record OutboxEvent(long id, UUID eventId, LocalDateTime createdAt, AuditLog auditLog) {
+    }
+
+    /**
+     * @param oldest The creation time of the oldest undelivered event, or null if there is none.
+     */
+    public record OutboxBacklog(long pending, LocalDateTime oldest) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.dto.DeveloperView;
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-column PATCH updates that bump the version and return the updated row together with the value
+ * they replaced, so the audit diff needs no SELECT of its own. A CTE locks the row and reads the old value,
+ * and the UPDATE joins it and returns both in the same statement. Without an expected version the update
+ * is unconditional. Callers provide the transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ConditionalUpdateRepository {
+
+    private static final String VERSION_MATCHES = "(CAST(:version AS BIGINT) IS NULL OR t.version = :version)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Sets a project's status.
+     * @param expectedVersion The version the caller last read, or null to update unconditionally.
+     * @return The updated project and its previous status, or empty if it does not exist or its version differs.
+     */
+    public Optional<Updated<ProjectView, ProjectStatus>> updateProjectStatus(Long id, ProjectStatus status,
+                                                                             Long expectedVersion,
+                                                                             LocalDateTime updatedAt) {
+        return jdbcTemplate.query("WITH previous AS (SELECT id, status FROM projects WHERE id = :id FOR UPDATE) "
+                        + "UPDATE projects t SET status = :value, updated_at = :updatedAt, version = t.version + 1 "
+                        + "FROM previous WHERE t.id = previous.id AND " + VERSION_MATCHES + " "
+                        + "RETURNING t.id, t.name, t.description, t.start_date, t.end_date, t.deadline, t.status, "
+                        + "t.created_at, t.updated_at, t.version, previous.status AS previous_value",
+                parameters(id, status.name(), expectedVersion, updatedAt),
+                (rs, row) -> new Updated<>(toProjectView(rs), ProjectStatus.valueOf(rs.getString("previous_value"))))
+                .stream().findFirst();
+    }
+
+    /**
+     * Replaces a developer's skills. The developer's role names are read in the same statement.
+     * @param expectedVersion The version the caller last read, or null to update unconditionally.
+     * @return The updated developer and the previous skills, or empty if it does not exist or its version differs.
+     */
+    public Optional<Updated<DeveloperView, String>> updateDeveloperSkills(Long id, String skills, Long expectedVersion,
+                                                                          LocalDateTime updatedAt) {
+        return jdbcTemplate.query("WITH previous AS (SELECT id, skills FROM developers WHERE id = :id FOR UPDATE), "
+                        + "updated AS (UPDATE developers t SET skills = :value, updated_at = :updatedAt, "
+                        + "version = t.version + 1 FROM previous WHERE t.id = previous.id AND " + VERSION_MATCHES + " "
+                        + "RETURNING t.id, t.name, t.email, t.skills, t.user_id, t.created_at, t.updated_at, t.version, "
+                        + "previous.skills AS previous_value) "
+                        + "SELECT u.*, ARRAY(SELECT r.name FROM developer_roles dr JOIN roles r ON r.id = dr.role_id "
+                        + "WHERE dr.developer_id = u.id ORDER BY r.name) AS roles FROM updated u",
+                parameters(id, skills, expectedVersion, updatedAt),
+                (rs, row) -> new Updated<>(toDeveloperView(rs), rs.getString("previous_value")))
+                .stream().findFirst();
+    }
+
+    private static MapSqlParameterSource parameters(Long id, String value, Long expectedVersion,
+                                                    LocalDateTime updatedAt) {
+        return new MapSqlParameterSource("id", id)
+                .addValue("value", value)
+                .addValue("version", expectedVersion, Types.BIGINT)
+                .addValue("updatedAt", updatedAt);
+    }
+
+    private static ProjectView toProjectView(ResultSet rs) throws SQLException {
+        return new ProjectView(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("end_date", LocalDate.class),
+                rs.getObject("deadline", LocalDate.class),
+                ProjectStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version"));
+    }
+
+    private static DeveloperView toDeveloperView(ResultSet rs) throws SQLException {
+        Array roles = rs.getArray("roles");
+        return new DeveloperView(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("skills"),
+                rs.getObject("user_id", Long.class),
+                roles != null ? Arrays.asList((String[]) roles.getArray()) : List.of(),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version"));
+    }
+
+    /**
+     * @param row The row as it is after the update.
+     * @param previous The value of the updated column before the update.
+     */
+    public record Updated<V, T>(V row, T previous) {
+    }
+}
@@ -1,25 +1,74 @@
 package com.buildmaster.projecttracker.repository;
 
 import com.buildmaster.projecttracker.entity.Developer;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface DeveloperRepository extends JpaRepository<Developer, Long> {
 
+    Window<Developer> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
     Optional<Developer> findByEmail(String email);
 
-    Page<Developer> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    @Query("SELECT d.id FROM Developer d WHERE d.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT d.id AS id, d.name AS name FROM Developer d WHERE d.id IN :ids")
+    List<DeveloperName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ranked fuzzy search over name, email and skills, backed by the trigram index on search_text.
+     * Rows whose words resemble the query (prefixes and small typos included) are returned closest first.
+     * @param query The lower-case search text.
+     * @param pageable The slice to return; no total is counted.
+     * @return The matching developers, best match first.
+     */
+    @Query(value = "SELECT d.* FROM developers d WHERE :query <% d.search_text " +
+            "ORDER BY :query <<-> d.search_text, d.id", nativeQuery = true)
+    Slice<Developer> search(@Param("query") String query, Pageable pageable);
 
-    @Query("SELECT d FROM Developer d ORDER BY SIZE(d.tasks) DESC")
+    @Query("SELECT d FROM Developer d ORDER BY d.taskCounts.total DESC, d.id DESC")
     List<Developer> findTop5DevelopersByTaskCount(Pageable pageable);
 
-    @Query("SELECT COUNT(t) FROM Developer d JOIN d.tasks t WHERE d.id = :developerId")
+    @Query("SELECT d.taskCounts.total FROM Developer d WHERE d.id = :developerId")
     Long countTasksByDeveloperId(Long developerId);
+
+    @Query("SELECT d.id AS id, d.skills AS skills, d.taskCounts.total - d.taskCounts.completed AS openTasks " +
+            "FROM Developer d")
+    List<DeveloperSkills> findAllSkills();
+
+    @Query("SELECT d.id AS id, d.skills AS skills, d.taskCounts.total - d.taskCounts.completed AS openTasks " +
+            "FROM Developer d WHERE d.id IN :ids")
+    List<DeveloperSkills> findSkillsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT d.version FROM Developer d WHERE d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    interface DeveloperSkills {
+        Long getId();
+
+        String getSkills();
+
+        Long getOpenTasks();
+    }
+
+    interface DeveloperName {
+        Long getId();
+
+        String getName();
+    }
 }
@@ -2,26 +2,86 @@ package com.buildmaster.projecttracker.repository;
 
 import com.buildmaster.projecttracker.entity.Project;
 import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    String PROJECT_VIEW_SELECT = "SELECT new com.buildmaster.projecttracker.dto.ProjectView(" +
+            "p.id, p.name, p.description, p.startDate, p.endDate, p.deadline, p.status, p.createdAt, p.updatedAt, p.version) " +
+            "FROM Project p";
+
+    Window<Project> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     Page<Project> findByStatus(ProjectStatus status, Pageable pageable);
 
     Page<Project> findByDeadlineBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
 
-    @Query("SELECT p FROM Project p WHERE p.tasks IS EMPTY")
+    @Query("SELECT p FROM Project p WHERE p.taskCounts.total = 0")
     List<Project> findProjectsWithoutTasks();
 
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.deadline < :currentDate AND p.status != 'COMPLETED'")
+    @Query("SELECT p FROM Project p WHERE p.deadline < :currentDate AND p.status != 'COMPLETED'")
     List<Project> findOverdueProjects(@Param("currentDate") LocalDate currentDate);
+
+    @Query("SELECT p FROM Project p WHERE p.status != 'COMPLETED'")
+    List<Project> findOpenProjects();
+
+    /**
+     * Aggregates a project's tasks in one statement, grouped by developer and status. The project columns
+     * repeat on every row; a project without tasks yields one row with null task columns, and an unknown
+     * project yields no rows.
+     */
+    @Query("SELECT p.id AS projectId, p.name AS projectName, p.status AS projectStatus, p.deadline AS deadline, " +
+            "d.id AS developerId, d.name AS developerName, t.status AS status, COUNT(t) AS taskCount, " +
+            "SUM(CASE WHEN t.dueDate < :today AND t.status != 'COMPLETED' THEN 1 ELSE 0 END) AS overdueCount, " +
+            "MIN(t.dueDate) AS earliestDueDate, MAX(t.dueDate) AS latestDueDate " +
+            "FROM Project p LEFT JOIN p.tasks t LEFT JOIN t.developer d WHERE p.id = :id " +
+            "GROUP BY p.id, p.name, p.status, p.deadline, d.id, d.name, t.status")
+    List<ProjectSummaryRow> summarize(@Param("id") Long id, @Param("today") LocalDate today);
+
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    interface ProjectSummaryRow {
+        Long getProjectId();
+
+        String getProjectName();
+
+        ProjectStatus getProjectStatus();
+
+        LocalDate getDeadline();
+
+        Long getDeveloperId();
+
+        String getDeveloperName();
+
+        TaskStatus getStatus();
+
+        long getTaskCount();
+
+        long getOverdueCount();
+
+        LocalDate getEarliestDueDate();
+
+        LocalDate getLatestDueDate();
+    }
 }
@@ -1,8 +1,11 @@
 package com.buildmaster.projecttracker.repository;
 
 import com.buildmaster.projecttracker.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +15,15 @@ import java.util.Optional;
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+    /**
+     * Served from the Hibernate query cache; the cached ids resolve against the Role entity cache,
+     * and any write to the roles table invalidates the cached result.
+     */
     @Query("SELECT r FROM Role r WHERE r.name = :name")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Role.QUERY_CACHE_REGION)
+    })
     Optional<Role> findByName(@Param("name") String name);
 
     boolean existsByName(String name);
@@ -1,20 +1,61 @@
 package com.buildmaster.projecttracker.repository;
 
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.entity.Developer;
 import com.buildmaster.projecttracker.entity.Task;
 import com.buildmaster.projecttracker.enums.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    String TASK_VIEW_SELECT = "SELECT new com.buildmaster.projecttracker.dto.TaskView(" +
+            "t.id, t.title, t.description, t.status, t.startDate, t.endDate, t.dueDate, t.createdAt, t.updatedAt, " +
+            "p.id, p.name, d.id, d.name) " +
+            "FROM Task t JOIN t.project p LEFT JOIN t.developer d";
+
+    @EntityGraph(attributePaths = {"project", "developer"})
+    Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @Query(value = TASK_VIEW_SELECT, countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskView> findAllViews(Pageable pageable);
+
+    @Query(value = TASK_VIEW_SELECT + " WHERE p.id = :projectId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId")
+    Page<TaskView> findViewsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query(value = TASK_VIEW_SELECT + " WHERE d.id = :developerId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.developer.id = :developerId")
+    Page<TaskView> findViewsByDeveloperId(@Param("developerId") Long developerId, Pageable pageable);
+
+    @Query(TASK_VIEW_SELECT + " WHERE t.dueDate < :currentDate AND t.status != 'COMPLETED'")
+    List<TaskView> findOverdueViews(@Param("currentDate") LocalDate currentDate);
+
+    @Query(TASK_VIEW_SELECT + " WHERE t.dueDate IS NOT NULL AND t.status != 'COMPLETED'")
+    List<TaskView> findOpenViewsWithDueDate();
+
+    @Query(TASK_VIEW_SELECT + " WHERE t.id IN :ids")
+    List<TaskView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
     Page<Task> findByProjectId(Long projectId, Pageable pageable);
 
     Page<Task> findByDeveloperId(Long developerId, Pageable pageable);
@@ -28,4 +69,37 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Object[]> countTasksByStatus();
 
     List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
+
+    @Query("SELECT d.id, t.status, COUNT(t) FROM Task t JOIN t.developer d WHERE t.project.id = :projectId GROUP BY d.id, t.status")
+    List<Object[]> countByDeveloperAndStatusForProject(@Param("projectId") Long projectId);
+
+    /**
+     * Reads a task's owners and status and locks the task row until the transaction ends, so the counter
+     * delta of a concurrent update of the same task is computed from this transaction's result.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS taskId, t.project.id AS projectId, t.developer.id AS developerId, t.status AS status FROM Task t WHERE t.id = :id")
+    Optional<TaskOwnerIds> lockOwnerIdsById(@Param("id") Long id);
+
+    /**
+     * Like {@link #lockOwnerIdsById}, locking the rows in id order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS taskId, t.project.id AS projectId, t.developer.id AS developerId, t.status AS status FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<TaskOwnerIds> lockOwnerIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.developer = :developer, t.updatedAt = :updatedAt WHERE t.id IN :ids")
+    int assignDeveloper(@Param("ids") Collection<Long> ids, @Param("developer") Developer developer,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface TaskOwnerIds {
+        Long getTaskId();
+
+        Long getProjectId();
+
+        Long getDeveloperId();
+
+        TaskStatus getStatus();
+    }
 }
\ No newline at end of file
@@ -3,15 +3,27 @@ package com.buildmaster.projecttracker.repository;
 import com.buildmaster.projecttracker.entity.User;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Page<User> findByEmailContainingIgnoreCase(String email, Pageable pageable);
+    Window<User> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+    /**
+     * Ranked fuzzy search over username and email, backed by the trigram index on search_text.
+     */
+    @Query(value = "SELECT u.* FROM users u WHERE :query <% u.search_text " +
+            "ORDER BY :query <<-> u.search_text, u.id", nativeQuery = true)
+    Slice<User> search(@Param("query") String query, Pageable pageable);
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
     Optional<User> findByUsername(String username);
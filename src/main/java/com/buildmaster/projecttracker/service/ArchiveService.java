@@ -0,0 +1,191 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.audit.AuditLog;
+import com.buildmaster.projecttracker.audit.AuditWriter;
+import com.buildmaster.projecttracker.cache.OverdueTracker;
+import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.mapper.ProjectViewMapper;
+import com.buildmaster.projecttracker.repository.ArchiveRepository;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Moves completed projects that have not changed for {@code app.archive.completed-age} into the archive
+ * tables, with their tasks, in batches of {@code app.archive.batch-size}. Each batch is its own transaction,
+ * so a large backlog never holds locks for long. Archiving takes the tasks out of the developers' task
+ * counters and the in-memory indexes, and {@link #restore} puts everything back.
+ */
+@Service
+@Slf4j
+public class ArchiveService {
+
+    private final ArchiveRepository archiveRepository;
+    private final ProjectRepository projectRepository;
+    private final AuditWriter auditWriter;
+    private final TaskCounterService taskCounterService;
+    private final TaskCacheInvalidator taskCacheInvalidator;
+    private final TaskService taskService;
+    private final ProjectService projectService;
+    private final OverdueTracker overdueTracker;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.completed-age:180d}")
+    private Duration completedAge;
+
+    @Value("${app.archive.batch-size:200}")
+    private int batchSize;
+
+    public ArchiveService(ArchiveRepository archiveRepository,
+                          ProjectRepository projectRepository,
+                          AuditWriter auditWriter,
+                          TaskCounterService taskCounterService,
+                          TaskCacheInvalidator taskCacheInvalidator,
+                          TaskService taskService,
+                          ProjectService projectService,
+                          OverdueTracker overdueTracker,
+                          CacheManager cacheManager,
+                          PlatformTransactionManager transactionManager) {
+        this.archiveRepository = archiveRepository;
+        this.projectRepository = projectRepository;
+        this.auditWriter = auditWriter;
+        this.taskCounterService = taskCounterService;
+        this.taskCacheInvalidator = taskCacheInvalidator;
+        this.taskService = taskService;
+        this.projectService = projectService;
+        this.overdueTracker = overdueTracker;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Archives every eligible project, one batch per transaction, until none is left.
+     * @return The number of projects archived.
+     */
+    @Scheduled(cron = "${app.archive.cron:0 0 4 * * *}")
+    public int archiveCompletedProjects() {
+        LocalDateTime changedBefore = LocalDateTime.now().minus(completedAge);
+        int archived = 0;
+        while (true) {
+            List<Long> projectIds = transactionTemplate.execute(status -> archiveBatch(changedBefore));
+            if (projectIds == null || projectIds.isEmpty()) {
+                break;
+            }
+            Cache projects = cacheManager.getCache("projects");
+            if (projects != null) {
+                projectIds.forEach(projects::evict);
+            }
+            archived += projectIds.size();
+        }
+        log.info("Archived {} completed projects last changed before {}", archived, changedBefore);
+        return archived;
+    }
+
+    private List<Long> archiveBatch(LocalDateTime changedBefore) {
+        List<Long> projectIds = archiveRepository.findArchivableProjectIds(changedBefore, batchSize);
+        if (projectIds.isEmpty()) {
+            return projectIds;
+        }
+        TaskCounterService.Delta counts = new TaskCounterService.Delta();
+        Set<Long> developerIds = new HashSet<>();
+        for (ArchiveRepository.AssignedTasks row : archiveRepository.countAssignedTasks(projectIds, false)) {
+            counts.developer(row.developerId(), row.status(), -row.tasks());
+            developerIds.add(row.developerId());
+        }
+
+        List<Long> taskIds = archiveRepository.archive(projectIds, LocalDateTime.now());
+        taskCounterService.apply(counts);
+        auditWriter.writeAll(projectIds.stream()
+                .map(id -> new AuditLog("ARCHIVE", "Project", id.toString(), "system",
+                        Map.of("changedBefore", changedBefore.toString())))
+                .toList());
+        taskCacheInvalidator.invalidateTasks(taskIds, projectIds, developerIds);
+        projectIds.forEach(overdueTracker::projectDeleted);
+
+        log.debug("Archived {} projects with {} tasks", projectIds.size(), taskIds.size());
+        return projectIds;
+    }
+
+    /**
+     * Moves an archived project and its tasks back into the live tables.
+     * @param projectId The id of the archived project.
+     * @return The restored project.
+     */
+    @Transactional
+    @CacheEvict(value = "projects", key = "#projectId")
+    public ProjectView restore(Long projectId) {
+        List<Long> taskIds = archiveRepository.restore(projectId)
+                .orElseThrow(() -> new RuntimeException("Archived project not found"));
+        TaskCounterService.Delta counts = new TaskCounterService.Delta();
+        Set<Long> developerIds = new HashSet<>();
+        for (ArchiveRepository.AssignedTasks row : archiveRepository.countAssignedTasks(List.of(projectId), false)) {
+            counts.developer(row.developerId(), row.status(), row.tasks());
+            developerIds.add(row.developerId());
+        }
+        taskCounterService.apply(counts);
+        auditWriter.write(new AuditLog("RESTORE", "Project", projectId.toString(), "system",
+                Map.of("tasks", String.valueOf(taskIds.size()))));
+        taskCacheInvalidator.invalidateTasks(taskIds, List.of(projectId), developerIds);
+        overdueTracker.projectChanged(projectId);
+        overdueTracker.tasksChanged(taskIds);
+
+        log.info("Restored archived project {} with {} tasks", projectId, taskIds.size());
+        return projectRepository.findById(projectId).map(ProjectViewMapper::toView)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+    }
+
+    /**
+     * @param includeArchived Whether to fall back to the archive when the project is not live.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProjectView> findProject(Long projectId, boolean includeArchived) {
+        Optional<ProjectView> project = projectService.findById(projectId);
+        return project.isPresent() || !includeArchived ? project : archiveRepository.findProject(projectId);
+    }
+
+    /**
+     * Only completed projects are ever archived, so other statuses are served from the live table alone.
+     * @param includeArchived Whether to page live and archived projects together.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectView> findProjectsByStatus(ProjectStatus status, Pageable pageable, boolean includeArchived) {
+        if (!includeArchived || status != ProjectStatus.COMPLETED) {
+            return projectService.findByStatus(status, pageable);
+        }
+        return archiveRepository.findProjectsByStatusIncludingArchived(status, pageable);
+    }
+
+    /**
+     * A project is either live or archived, so its tasks come from one table or the other.
+     * @param includeArchived Whether to read the archived tasks of an archived project.
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskView> findTasksByProjectId(Long projectId, Pageable pageable, boolean includeArchived) {
+        if (includeArchived && archiveRepository.isArchived(projectId)) {
+            return archiveRepository.findTasksByProjectId(projectId, pageable);
+        }
+        return taskService.findByProjectId(projectId, pageable);
+    }
+}
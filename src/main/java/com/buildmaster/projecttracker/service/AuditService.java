@@ -1,13 +1,46 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.audit.AuditDiff;
+import com.buildmaster.projecttracker.audit.AuditLog;
+import com.buildmaster.projecttracker.dto.AuditLogFilter;
+import com.buildmaster.projecttracker.dto.AuditSnapshot;
+import com.buildmaster.projecttracker.dto.CursorPage;
 import com.buildmaster.projecttracker.entity.User;
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AuditService {
 
+    /**
+     * The keyset audit searches page by, newest first. Every audit_logs index ends in these keys.
+     */
+    public static final Map<String, Class<?>> SEEK_KEYS = Map.of(
+            "timestamp", LocalDateTime.class,
+            "id", String.class);
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp", "id");
+
+    private final MongoTemplate mongoTemplate;
+
     public void logUserLogin(User user, boolean success) {
         if (success) {
             log.info("User login successful: {}", user.getEmail());
@@ -20,4 +53,101 @@ public class AuditService {
         log.info("New user registered: {}", savedUser.getEmail());
     }
 
-}
\ No newline at end of file
+    /**
+     * Finds audit logs matching all given filters, newest first. Each slice seeks past the last
+     * (timestamp, id) of the previous one instead of skipping rows, and nothing is counted, so a slice
+     * deep into a large collection costs the same as the first.
+     * @param filter The filters; null fields do not filter.
+     * @param position The position returned by the previous slice, or an initial position.
+     * @param size The slice size.
+     * @return One slice of matches with the cursor for the next.
+     * @throws IllegalArgumentException if the position is not a (timestamp, id) keyset.
+     */
+    public CursorPage<AuditLog> search(AuditLogFilter filter, ScrollPosition position, int size) {
+        List<Criteria> criteria = new ArrayList<>();
+        addEquals(criteria, "entityType", filter.entityType());
+        addEquals(criteria, "entityId", filter.entityId());
+        addEquals(criteria, "actionType", filter.actionType());
+        addEquals(criteria, "userId", filter.userId());
+        addEquals(criteria, "username", filter.username());
+        addEquals(criteria, "success", filter.success());
+        if (filter.from() != null) {
+            criteria.add(where("timestamp").gte(filter.from()));
+        }
+        if (filter.to() != null) {
+            criteria.add(where("timestamp").lt(filter.to()));
+        }
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            Object timestamp = keyset.getKeys().get("timestamp");
+            Object id = keyset.getKeys().get("id");
+            if (timestamp == null || id == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            criteria.add(new Criteria().orOperator(
+                    where("timestamp").lt(timestamp),
+                    where("timestamp").is(timestamp).and("id").lt(id)));
+        }
+
+        Query query = new Query(criteria.isEmpty() ? new Criteria() : new Criteria().andOperator(criteria))
+                .with(NEWEST_FIRST)
+                .limit(size + 1);
+        List<AuditLog> rows = mongoTemplate.find(query, AuditLog.class);
+        boolean hasNext = rows.size() > size;
+        List<AuditLog> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            AuditLog last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(ScrollPosition.forward(Map.of(
+                    "timestamp", last.getTimestamp(),
+                    "id", last.getId())));
+        }
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor, null);
+    }
+
+    /**
+     * Rebuilds the full state of an entity after each of its audit events, oldest first. CREATE and
+     * DELETE events, and UPDATE events written before diffs were introduced, carry the whole entity and
+     * replace the state; a legacy full UPDATE is recognised by its {@code id}. UPDATE diffs are applied on
+     * top of the previous state, and other partial UPDATE payloads, such as an assignment that only names
+     * the developer, are merged into it. Other events leave the state as it was.
+     * @param entityType The entity type, e.g. "Task".
+     * @param entityId The entity id.
+     * @param at Only events up to this time are replayed; null replays all of them.
+     * @return One snapshot per audit event.
+     */
+    public List<AuditSnapshot> reconstruct(String entityType, String entityId, LocalDateTime at) {
+        Criteria criteria = where("entityType").is(entityType).and("entityId").is(entityId);
+        if (at != null) {
+            criteria = criteria.and("timestamp").lte(at);
+        }
+        Query query = new Query(criteria).with(NEWEST_FIRST.ascending());
+        Map<String, String> state = new HashMap<>();
+        List<AuditSnapshot> snapshots = new ArrayList<>();
+        for (AuditLog auditLog : mongoTemplate.find(query, AuditLog.class)) {
+            Map<String, String> payload = auditLog.getPayload() != null ? auditLog.getPayload() : Map.of();
+            switch (auditLog.getActionType()) {
+                case "UPDATE" -> {
+                    if (AuditDiff.isDiff(payload)) {
+                        AuditDiff.apply(state, payload);
+                    } else if (payload.containsKey("id")) {
+                        state = new HashMap<>(payload);
+                    } else {
+                        state.putAll(payload);
+                    }
+                }
+                case "CREATE", "DELETE" -> state = new HashMap<>(payload);
+                default -> {
+                }
+            }
+            snapshots.add(new AuditSnapshot(auditLog.getId(), auditLog.getActionType(), auditLog.getTimestamp(),
+                    new HashMap<>(state)));
+        }
+        return snapshots;
+    }
+
+    private static void addEquals(List<Criteria> criteria, String field, Object value) {
+        if (value != null) {
+            criteria.add(where(field).is(value));
+        }
+    }
+}
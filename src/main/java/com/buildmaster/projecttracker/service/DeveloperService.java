@@ -1,48 +1,122 @@
 package com.buildmaster.projecttracker.service;
 
     import com.buildmaster.projecttracker.audit.AuditLog;
-    import com.buildmaster.projecttracker.repository.AuditLogRepository;
+    import com.buildmaster.projecttracker.audit.AuditDiff;
+    import com.buildmaster.projecttracker.audit.AuditWriter;
+    import com.buildmaster.projecttracker.cache.OverdueTracker;
+    import com.buildmaster.projecttracker.cache.SkillIndex;
+    import com.buildmaster.projecttracker.cache.SkillMatcher;
+    import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+    import com.buildmaster.projecttracker.dto.CursorPage;
+    import com.buildmaster.projecttracker.dto.DeveloperView;
+    import com.buildmaster.projecttracker.dto.SkillMatchResult;
+    import com.buildmaster.projecttracker.mapper.DeveloperViewMapper;
     import com.buildmaster.projecttracker.entity.Developer;
+    import com.buildmaster.projecttracker.repository.ConditionalUpdateRepository;
+    import com.buildmaster.projecttracker.repository.ConditionalUpdateRepository.Updated;
     import com.buildmaster.projecttracker.repository.DeveloperRepository;
+    import com.buildmaster.projecttracker.util.SearchQuery;
     import lombok.RequiredArgsConstructor;
     import lombok.extern.slf4j.Slf4j;
     import org.springframework.cache.annotation.CacheEvict;
     import org.springframework.cache.annotation.Cacheable;
+    import org.springframework.dao.OptimisticLockingFailureException;
+    import org.springframework.data.domain.Limit;
     import org.springframework.data.domain.Page;
     import org.springframework.data.domain.PageRequest;
     import org.springframework.data.domain.Pageable;
+    import org.springframework.data.domain.ScrollPosition;
+    import org.springframework.data.domain.Slice;
+    import org.springframework.data.domain.Sort;
+    import org.springframework.data.domain.Window;
     import org.springframework.stereotype.Service;
     import org.springframework.transaction.annotation.Transactional;
 
+    import java.time.LocalDateTime;
     import java.util.HashMap;
     import java.util.List;
     import java.util.Map;
     import java.util.Optional;
+    import java.util.stream.Collectors;
 
     @Service
     @RequiredArgsConstructor
     @Slf4j
     public class DeveloperService {
 
+        public static final Map<String, Class<?>> SEEK_KEYS = Map.of(
+                "id", Long.class,
+                "name", String.class,
+                "createdAt", LocalDateTime.class);
+
         private final DeveloperRepository developerRepository;
-        private final AuditLogRepository auditLogRepository;
+        private final ConditionalUpdateRepository conditionalUpdateRepository;
+        private final AuditWriter auditWriter;
+        private final AuditDiff auditDiff;
+        private final TaskCacheInvalidator taskCacheInvalidator;
+        private final OverdueTracker overdueTracker;
+        private final SkillMatcher skillMatcher;
 
         @Cacheable(value = "developers", key = "#id")
-        public Optional<Developer> findById(Long id) {
+        @Transactional(readOnly = true)
+        public Optional<DeveloperView> findById(Long id) {
             log.debug("Fetching developer with id: {}", id);
-            return developerRepository.findById(id);
+            return developerRepository.findById(id).map(DeveloperViewMapper::toView);
+        }
+
+        @Transactional(readOnly = true)
+        public Page<DeveloperView> findAll(Pageable pageable) {
+            return developerRepository.findAll(pageable).map(DeveloperViewMapper::toView);
         }
 
-        public Page<Developer> findAll(Pageable pageable) {
-            return developerRepository.findAll(pageable);
+        @Transactional(readOnly = true)
+        public CursorPage<DeveloperView> scroll(ScrollPosition position, Sort sort, int size, boolean includeTotal) {
+            Window<DeveloperView> window = developerRepository.findAllBy(position, sort, Limit.of(size))
+                    .map(DeveloperViewMapper::toView);
+            return CursorPage.of(window, includeTotal ? developerRepository.count() : null);
         }
 
+        @Transactional(readOnly = true)
         public Optional<Developer> findByEmail(String email) {
             return developerRepository.findByEmail(email);
         }
 
-        public Page<Developer> searchByName(String name, Pageable pageable) {
-            return developerRepository.findByNameContainingIgnoreCase(name, pageable);
+        @Transactional(readOnly = true)
+        public Optional<DeveloperView> findViewByEmail(String email) {
+            return developerRepository.findByEmail(email).map(DeveloperViewMapper::toView);
+        }
+
+        /**
+         * Fuzzy search over name, email and skills, best match first.
+         * @param query The search text, at least three characters.
+         * @param pageable The slice to return.
+         * @return The matching developers; no total is counted so deep matches cost nothing.
+         */
+        @Transactional(readOnly = true)
+        public Slice<DeveloperView> search(String query, Pageable pageable) {
+            return developerRepository.search(SearchQuery.normalize(query), pageable).map(DeveloperViewMapper::toView);
+        }
+
+        /**
+         * Finds developers whose skills satisfy a boolean expression such as {@code java AND kafka},
+         * least loaded first.
+         * @param expression The skill expression.
+         * @param limit The maximum number of developers to return.
+         * @return The match count and the ranked developers.
+         */
+        @Transactional(readOnly = true)
+        public SkillMatchResult matchBySkills(String expression, int limit) {
+            SkillIndex.Match match = skillMatcher.match(expression, limit);
+            List<Long> ids = match.developers().stream().map(SkillIndex.Entry::id).toList();
+            Map<Long, String> names = ids.isEmpty() ? Map.of() : developerRepository.findNamesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(DeveloperRepository.DeveloperName::getId,
+                            DeveloperRepository.DeveloperName::getName));
+            List<SkillMatchResult.DeveloperMatch> developers = match.developers().stream()
+                    .filter(entry -> names.containsKey(entry.id()))
+                    .map(entry -> new SkillMatchResult.DeveloperMatch(entry.id(), names.get(entry.id()),
+                            List.copyOf(entry.tags()), entry.openTasks()))
+                    .toList();
+            return new SkillMatchResult(match.matched(), developers);
         }
 
         @Transactional
@@ -53,13 +127,24 @@ package com.buildmaster.projecttracker.service;
             if (isNew && findByEmail(developer.getEmail()).isPresent()) {
                 throw new RuntimeException("Developer with email " + developer.getEmail() + " already exists");
             }
+            if (!isNew && developer.getVersion() == null) {
+                developer.setVersion(developerRepository.findVersionById(developer.getId())
+                        .orElseThrow(() -> new RuntimeException("Developer not found")));
+            }
 
             Developer savedDeveloper = developerRepository.save(developer);
 
-            Map<String, String> payload = createDeveloperPayload(savedDeveloper);
+            Map<String, String> payload = isNew ? createDeveloperPayload(savedDeveloper)
+                    : auditDiff.changes(savedDeveloper, "name", "email", "skills")
+                            .orElseGet(() -> createDeveloperPayload(savedDeveloper));
             String actionType = isNew ? "CREATE" : "UPDATE";
-            auditLogRepository.save(new AuditLog(actionType, "Developer",
+            auditWriter.write(new AuditLog(actionType, "Developer",
                     savedDeveloper.getId().toString(), "system", payload));
+            if (!isNew) {
+                taskCacheInvalidator.invalidateOwner(null, savedDeveloper.getId());
+                overdueTracker.developerChanged(savedDeveloper.getId());
+            }
+            skillMatcher.developersChanged(List.of(savedDeveloper.getId()));
 
             log.info("Developer {} successfully: {}", actionType.toLowerCase(), savedDeveloper.getName());
             return savedDeveloper;
@@ -70,40 +155,70 @@ package com.buildmaster.projecttracker.service;
         public void deleteById(Long id) {
             Optional<Developer> developer = developerRepository.findById(id);
             if (developer.isPresent()) {
-                if (!developer.get().getTasks().isEmpty()) {
+                if (developer.get().getTaskCounts().getTotal() > 0) {
                     throw new RuntimeException("Cannot delete developer with assigned tasks. Please reassign tasks first.");
                 }
 
                 developerRepository.deleteById(id);
 
                 Map<String, String> payload = createDeveloperPayload(developer.get());
-                auditLogRepository.save(new AuditLog("DELETE", "Developer",
+                auditWriter.write(new AuditLog("DELETE", "Developer",
                         id.toString(), "system", payload));
+                skillMatcher.developerDeleted(id);
 
                 log.info("Developer deleted successfully: {}", developer.get().getName());
             }
         }
 
-        public List<Developer> findTopDevelopersByTaskCount(int limit) {
+        @Transactional(readOnly = true)
+        public List<DeveloperView> findTopDevelopersByTaskCount(int limit) {
             Pageable pageable = PageRequest.of(0, limit);
-            return developerRepository.findTop5DevelopersByTaskCount(pageable);
+            return developerRepository.findTop5DevelopersByTaskCount(pageable).stream()
+                    .map(DeveloperViewMapper::toView)
+                    .toList();
         }
 
+        @Transactional(readOnly = true)
         public Long getTaskCountForDeveloper(Long developerId) {
             return developerRepository.countTasksByDeveloperId(developerId);
         }
 
+        @Transactional(readOnly = true)
         public boolean existsByEmail(String email) {
             return developerRepository.findByEmail(email).isPresent();
         }
 
+        /**
+         * Replaces the skills with a single UPDATE that bumps the version, instead of rewriting every column.
+         * The UPDATE also returns the skills it replaced, which is all the audit diff needs.
+         * @param id The developer id.
+         * @param skills The new skills text.
+         * @param expectedVersion The version the caller last read, or null to update unconditionally.
+         * @return The updated developer.
+         * @throws OptimisticLockingFailureException if the developer changed since the expected version.
+         */
         @Transactional
-        public Developer updateSkills(Long id, String skills) {
-            Developer developer = developerRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Developer not found"));
+        @CacheEvict(value = "developers", key = "#id")
+        public DeveloperView updateSkills(Long id, String skills, Long expectedVersion) {
+            if (skills.length() > 500) {
+                throw new IllegalArgumentException("Skills cannot exceed 500 characters");
+            }
+            Optional<Updated<DeveloperView, String>> updated =
+                    conditionalUpdateRepository.updateDeveloperSkills(id, skills, expectedVersion, LocalDateTime.now());
+            if (updated.isEmpty()) {
+                Long currentVersion = developerRepository.findVersionById(id)
+                        .orElseThrow(() -> new RuntimeException("Developer not found"));
+                throw new OptimisticLockingFailureException("Developer " + id + " was modified concurrently: expected version "
+                        + expectedVersion + " but it is at version " + currentVersion);
+            }
+            DeveloperView developer = updated.get().row();
+            Map<String, String> payload = new HashMap<>();
+            AuditDiff.put(payload, "skills", updated.get().previous(), skills);
+            auditWriter.write(new AuditLog("UPDATE", "Developer", id.toString(), "system", payload));
+            skillMatcher.developersChanged(List.of(id));
 
-            developer.setSkills(skills);
-            return save(developer);
+            log.info("Developer {} skills updated (version {})", id, developer.version());
+            return developer;
         }
 
         private Map<String, String> createDeveloperPayload(Developer developer) {
@@ -112,7 +227,7 @@ package com.buildmaster.projecttracker.service;
             payload.put("name", developer.getName());
             payload.put("email", developer.getEmail());
             payload.put("skills", developer.getSkills());
-            payload.put("taskCount", String.valueOf(developer.getTasks().size()));
+            payload.put("taskCount", String.valueOf(developer.getTaskCounts().getTotal()));
             payload.put("createdAt", developer.getCreatedAt().toString());
             payload.put("updatedAt", developer.getUpdatedAt().toString());
             return payload;
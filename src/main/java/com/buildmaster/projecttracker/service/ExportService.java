@@ -0,0 +1,187 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.dto.ProjectExportFilter;
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.dto.TaskExportFilter;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.enums.ExportFormat;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams tasks and projects as CSV or newline-delimited JSON. Rows are read through a forward-only
+ * database cursor with a fixed fetch size and written as soon as they arrive; they are projected
+ * straight into read models, so nothing accumulates in the persistence context and memory use
+ * does not grow with the size of the export.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public ExportService(EntityManager entityManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every task matching the filter, ordered by id.
+     * @param filter The optional project, developer, status and creation date filters.
+     * @param format The output format.
+     * @param out The stream to write to; it is flushed but not closed.
+     * @return The number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        Criteria criteria = new Criteria()
+                .where("p.id = :projectId", "projectId", filter.projectId())
+                .where("d.id = :developerId", "developerId", filter.developerId())
+                .where("t.status = :status", "status", filter.status())
+                .where("t.createdAt >= :from", "from", filter.from() != null ? filter.from().atStartOfDay() : null)
+                .where("t.createdAt < :to", "to", filter.to() != null ? filter.to().plusDays(1).atStartOfDay() : null);
+        TypedQuery<TaskView> query = criteria.query(TaskRepository.TASK_VIEW_SELECT, "t.id", TaskView.class);
+        long rows = write(query, TaskView.class, format, out);
+        log.info("Exported {} tasks as {} ({})", rows, format, filter);
+        return rows;
+    }
+
+    /**
+     * Writes every project matching the filter, ordered by id.
+     * @param filter The optional status and creation date filters.
+     * @param format The output format.
+     * @param out The stream to write to; it is flushed but not closed.
+     * @return The number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportProjects(ProjectExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        Criteria criteria = new Criteria()
+                .where("p.status = :status", "status", filter.status())
+                .where("p.createdAt >= :from", "from", filter.from() != null ? filter.from().atStartOfDay() : null)
+                .where("p.createdAt < :to", "to", filter.to() != null ? filter.to().plusDays(1).atStartOfDay() : null);
+        TypedQuery<ProjectView> query = criteria.query(ProjectRepository.PROJECT_VIEW_SELECT, "p.id", ProjectView.class);
+        long rows = write(query, ProjectView.class, format, out);
+        log.info("Exported {} projects as {} ({})", rows, format, filter);
+        return rows;
+    }
+
+    private <T extends Record> long write(TypedQuery<T> query, Class<T> type, ExportFormat format, OutputStream out)
+            throws IOException {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        long rows = 0;
+        try (Stream<T> stream = query.getResultStream()) {
+            Iterator<T> iterator = stream.iterator();
+            if (format == ExportFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                RecordComponent[] columns = type.getRecordComponents();
+                writeCsvLine(writer, Stream.of(columns).map(RecordComponent::getName).toList());
+                while (iterator.hasNext()) {
+                    writeCsvLine(writer, valuesOf(iterator.next(), columns));
+                    rows++;
+                }
+                writer.flush();
+            } else {
+                SequenceWriter writer = objectMapper.writerFor(type)
+                        .withRootValueSeparator("\n")
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .writeValues(out);
+                while (iterator.hasNext()) {
+                    writer.write(iterator.next());
+                    rows++;
+                }
+                writer.close();
+                if (rows > 0) {
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        }
+        return rows;
+    }
+
+    private static List<Object> valuesOf(Record row, RecordComponent[] columns) {
+        List<Object> values = new ArrayList<>(columns.length);
+        for (RecordComponent column : columns) {
+            try {
+                values.add(column.getAccessor().invoke(row));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read " + column.getName(), e);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Writes one RFC 4180 line. Values containing a separator, quote or line break are quoted,
+     * with embedded quotes doubled; nulls are written as empty fields.
+     */
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        writer.write(values.stream().map(ExportService::csvField).collect(Collectors.joining(",")));
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Collects the WHERE clauses for the filters that were given, so the database only sees
+     * predicates it can match against an index.
+     */
+    private class Criteria {
+
+        private final List<String> clauses = new ArrayList<>();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        Criteria where(String clause, String parameter, Object value) {
+            if (value != null) {
+                clauses.add(clause);
+                parameters.put(parameter, value);
+            }
+            return this;
+        }
+
+        <T> TypedQuery<T> query(String select, String orderBy, Class<T> type) {
+            String where = clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+            TypedQuery<T> query = entityManager.createQuery(select + where + " ORDER BY " + orderBy, type);
+            parameters.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.audit.AuditDiff;
 import com.buildmaster.projecttracker.audit.AuditLog;
-import com.buildmaster.projecttracker.repository.AuditLogRepository;
+import com.buildmaster.projecttracker.audit.AuditWriter;
+import com.buildmaster.projecttracker.cache.OverdueTracker;
+import com.buildmaster.projecttracker.cache.TaskCacheDependencies;
+import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.dto.ProjectSummary;
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.mapper.ProjectSummaryMapper;
+import com.buildmaster.projecttracker.mapper.ProjectViewMapper;
 import com.buildmaster.projecttracker.entity.Project;
 import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.ConditionalUpdateRepository;
+import com.buildmaster.projecttracker.repository.ConditionalUpdateRepository.Updated;
 import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,32 +44,64 @@ import java.util.Optional;
 @Slf4j
 public class ProjectService {
 
+    public static final Map<String, Class<?>> SEEK_KEYS = Map.of(
+            "id", Long.class,
+            "name", String.class,
+            "deadline", LocalDate.class,
+            "createdAt", LocalDateTime.class);
+
     private final ProjectRepository projectRepository;
-    private final AuditLogRepository auditLogRepository;
+    private final ConditionalUpdateRepository conditionalUpdateRepository;
+    private final AuditWriter auditWriter;
+    private final AuditDiff auditDiff;
+    private final TaskCacheInvalidator taskCacheInvalidator;
+    private final TaskRepository taskRepository;
+    private final TaskCounterService taskCounterService;
+    private final OverdueTracker overdueTracker;
 
     @Cacheable(value = "projects", key = "#id")
-    public Optional<Project> findById(Long id) {
+    @Transactional(readOnly = true)
+    public Optional<ProjectView> findById(Long id) {
         log.debug("Fetching project with id: {}", id);
-        return projectRepository.findById(id);
+        return projectRepository.findById(id).map(ProjectViewMapper::toView);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProjectView> findAll(Pageable pageable) {
+        return projectRepository.findAll(pageable).map(ProjectViewMapper::toView);
     }
 
-    public Page<Project> findAll(Pageable pageable) {
-        return projectRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectView> scroll(ScrollPosition position, Sort sort, int size, boolean includeTotal) {
+        Window<ProjectView> window = projectRepository.findAllBy(position, sort, Limit.of(size))
+                .map(ProjectViewMapper::toView);
+        return CursorPage.of(window, includeTotal ? projectRepository.count() : null);
     }
 
-    public Page<Project> findByStatus(ProjectStatus status, Pageable pageable) {
-        return projectRepository.findByStatus(status, pageable);
+    @Transactional(readOnly = true)
+    public Page<ProjectView> findByStatus(ProjectStatus status, Pageable pageable) {
+        return projectRepository.findByStatus(status, pageable).map(ProjectViewMapper::toView);
     }
 
     @Transactional
     @CacheEvict(value = "projects", allEntries = true)
     public Project save(Project project) {
         boolean isNew = project.getId() == null;
+        if (!isNew && project.getVersion() == null) {
+            project.setVersion(projectRepository.findVersionById(project.getId())
+                    .orElseThrow(() -> new RuntimeException("Project not found")));
+        }
         Project savedProject = projectRepository.save(project);
-        Map<String, String> payload = createProjectStringPayload(savedProject);
+        Map<String, String> payload = isNew ? createProjectStringPayload(savedProject)
+                : auditDiff.changes(savedProject, "name", "description", "deadline", "status")
+                        .orElseGet(() -> createProjectStringPayload(savedProject));
         String actionType = isNew ? "CREATE" : "UPDATE";
-        auditLogRepository.save(new AuditLog(actionType, "Project",
+        auditWriter.write(new AuditLog(actionType, "Project",
                 savedProject.getId().toString(), "system", payload));
+        if (!isNew) {
+            taskCacheInvalidator.invalidateOwner(savedProject.getId(), null);
+        }
+        overdueTracker.projectChanged(savedProject.getId());
 
         log.info("Project {} successfully: {}", actionType.toLowerCase(), savedProject.getName());
         return savedProject;
@@ -61,30 +112,79 @@ public class ProjectService {
     public void deleteById(Long id) {
         Optional<Project> project = projectRepository.findById(id);
         if (project.isPresent()) {
+            TaskCounterService.Delta counts = new TaskCounterService.Delta();
+            for (Object[] row : taskRepository.countByDeveloperAndStatusForProject(id)) {
+                counts.developer((Long) row[0], (TaskStatus) row[1], -((Long) row[2]));
+            }
             projectRepository.deleteById(id);
+            taskCounterService.apply(counts);
             Map<String, String> payload = createProjectStringPayload(project.get());
-            auditLogRepository.save(new AuditLog("DELETE", "Project",
+            auditWriter.write(new AuditLog("DELETE", "Project",
                     id.toString(), "system", payload));
+            taskCacheInvalidator.invalidateOwner(id, null);
+            overdueTracker.projectDeleted(id);
 
             log.info("Project deleted successfully: {}", project.get().getName());
         }
     }
 
-    public List<Project> findProjectsWithoutTasks() {
-        return projectRepository.findProjectsWithoutTasks();
+    /**
+     * Builds the dashboard aggregate of a project's tasks with a single grouped query. The entry is
+     * evicted with the project's other task caches on every task write in the project.
+     * @param id The project id.
+     * @return The summary.
+     */
+    @Cacheable(cacheNames = TaskCacheDependencies.PROJECT_SUMMARY_CACHE, sync = true,
+            key = "T(com.buildmaster.projecttracker.cache.TaskCacheKey).projectSummary(#id)")
+    @Transactional(readOnly = true)
+    public ProjectSummary getSummary(Long id) {
+        ProjectSummary summary = ProjectSummaryMapper.toSummary(projectRepository.summarize(id, LocalDate.now()));
+        if (summary == null) {
+            throw new RuntimeException("Project not found");
+        }
+        return summary;
     }
 
-    public List<Project> findOverdueProjects() {
-        return projectRepository.findOverdueProjects(LocalDate.now());
+    @Transactional(readOnly = true)
+    public List<ProjectView> findProjectsWithoutTasks() {
+        return projectRepository.findProjectsWithoutTasks().stream()
+                .map(ProjectViewMapper::toView)
+                .toList();
     }
 
+    public List<ProjectView> findOverdueProjects() {
+        return overdueTracker.overdueProjects();
+    }
+
+    /**
+     * Changes the status with a single UPDATE that bumps the version, instead of rewriting every column.
+     * The UPDATE also returns the status it replaced, which is all the audit diff needs.
+     * @param id The project id.
+     * @param status The new status.
+     * @param expectedVersion The version the caller last read, or null to update unconditionally.
+     * @return The updated project.
+     * @throws OptimisticLockingFailureException if the project changed since the expected version.
+     */
     @Transactional
-    public Project updateStatus(Long id, ProjectStatus status) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+    @CacheEvict(value = "projects", key = "#id")
+    public ProjectView updateStatus(Long id, ProjectStatus status, Long expectedVersion) {
+        Optional<Updated<ProjectView, ProjectStatus>> updated =
+                conditionalUpdateRepository.updateProjectStatus(id, status, expectedVersion, LocalDateTime.now());
+        if (updated.isEmpty()) {
+            Long currentVersion = projectRepository.findVersionById(id)
+                    .orElseThrow(() -> new RuntimeException("Project not found"));
+            throw new OptimisticLockingFailureException("Project " + id + " was modified concurrently: expected version "
+                    + expectedVersion + " but it is at version " + currentVersion);
+        }
+        ProjectView project = updated.get().row();
+        Map<String, String> payload = new HashMap<>();
+        AuditDiff.put(payload, "status", updated.get().previous(), status);
+        auditWriter.write(new AuditLog("UPDATE", "Project", id.toString(), "system", payload));
+        taskCacheInvalidator.invalidateProject(id);
+        overdueTracker.projectChanged(id);
 
-        project.setStatus(status);
-        return save(project);
+        log.info("Project {} status set to {} (version {})", id, status, project.version());
+        return project;
     }
 
     /**
@@ -101,7 +201,7 @@ public class ProjectService {
         payload.put("description", project.getDescription());
         payload.put("deadline", project.getDeadline() != null ? project.getDeadline().toString() : null);
         payload.put("status", project.getStatus() != null ? project.getStatus().toString() : null);
-        payload.put("taskCount", String.valueOf(project.getTasks().size()));
+        payload.put("taskCount", String.valueOf(project.getTaskCounts().getTotal()));
         return payload;
     }
 }
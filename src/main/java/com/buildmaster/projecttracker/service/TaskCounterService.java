@@ -0,0 +1,136 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.cache.SkillMatcher;
+import com.buildmaster.projecttracker.entity.TaskCounts;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the denormalized {@link TaskCounts} on developers and projects. Every task write
+ * applies its changes as atomic {@code count = count + delta} updates in the writer's transaction,
+ * so concurrent writers never lose an increment. A scheduled repair recomputes all counters
+ * from the tasks table in case they drift, e.g. after manual SQL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCounterService {
+
+    private final EntityManager entityManager;
+    private final SkillMatcher skillMatcher;
+
+    /**
+     * Applies the accumulated counter changes, with one UPDATE per owner and status.
+     * Must be called inside the transaction that performs the task writes.
+     * @param delta The counter changes to apply.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Delta delta) {
+        delta.projects.forEach((key, change) -> increment("Project", key, change));
+        delta.developers.forEach((key, change) -> increment("Developer", key, change));
+        skillMatcher.developersChanged(delta.developersWithOpenTaskChanges());
+    }
+
+    /**
+     * Recomputes every counter from the tasks table.
+     * @return The number of developer and project rows rewritten.
+     */
+    @Scheduled(cron = "${app.tasks.counters.repair-cron:0 30 3 * * *}")
+    @Transactional
+    public int repair() {
+        int developers = entityManager.createQuery(recomputeQuery("Developer", "developer")).executeUpdate();
+        int projects = entityManager.createQuery(recomputeQuery("Project", "project")).executeUpdate();
+        log.info("Recomputed task counters for {} developers and {} projects", developers, projects);
+        return developers + projects;
+    }
+
+    private void increment(String entity, OwnerStatus key, long change) {
+        if (change == 0) {
+            return;
+        }
+        String attribute = TaskCounts.attributeFor(key.status());
+        entityManager.createQuery("UPDATE " + entity + " o SET "
+                        + "o.taskCounts.total = o.taskCounts.total + :delta, "
+                        + "o.taskCounts." + attribute + " = o.taskCounts." + attribute + " + :delta "
+                        + "WHERE o.id = :id")
+                .setParameter("delta", change)
+                .setParameter("id", key.ownerId())
+                .executeUpdate();
+    }
+
+    private static String recomputeQuery(String entity, String taskAttribute) {
+        String perStatus = Arrays.stream(TaskStatus.values())
+                .map(status -> "o.taskCounts." + TaskCounts.attributeFor(status)
+                        + " = (SELECT COUNT(t) FROM Task t WHERE t." + taskAttribute + " = o"
+                        + " AND t.status = com.buildmaster.projecttracker.enums.TaskStatus." + status.name() + ")")
+                .collect(Collectors.joining(", "));
+        return "UPDATE " + entity + " o SET o.taskCounts.total = (SELECT COUNT(t) FROM Task t WHERE t."
+                + taskAttribute + " = o), " + perStatus;
+    }
+
+    /**
+     * Accumulates counter changes for one write so a batch touching many tasks of the same
+     * owner and status issues a single UPDATE.
+     */
+    public static class Delta {
+
+        private final Map<OwnerStatus, Long> projects = new LinkedHashMap<>();
+        private final Map<OwnerStatus, Long> developers = new LinkedHashMap<>();
+
+        /**
+         * Records a task being added to, or (with a negative count) removed from, its owners.
+         * @param projectId The task's project, or null.
+         * @param developerId The task's developer, or null.
+         * @param status The task's status.
+         * @param count The number of tasks added, negative for removals.
+         * @return This delta.
+         */
+        public Delta task(Long projectId, Long developerId, TaskStatus status, long count) {
+            return project(projectId, status, count).developer(developerId, status, count);
+        }
+
+        public Delta project(Long projectId, TaskStatus status, long count) {
+            if (projectId != null && status != null) {
+                projects.merge(new OwnerStatus(projectId, status), count, Long::sum);
+            }
+            return this;
+        }
+
+        public Delta developer(Long developerId, TaskStatus status, long count) {
+            if (developerId != null && status != null) {
+                developers.merge(new OwnerStatus(developerId, status), count, Long::sum);
+            }
+            return this;
+        }
+
+        /**
+         * @return The developers whose number of open (not completed) tasks changes.
+         */
+        public Set<Long> developersWithOpenTaskChanges() {
+            return developers.entrySet().stream()
+                    .filter(entry -> entry.getValue() != 0 && entry.getKey().status() != TaskStatus.COMPLETED)
+                    .map(entry -> entry.getKey().ownerId())
+                    .collect(Collectors.toSet());
+        }
+
+        public boolean isEmpty() {
+            return projects.values().stream().allMatch(change -> change == 0)
+                    && developers.values().stream().allMatch(change -> change == 0);
+        }
+    }
+
+    private record OwnerStatus(Long ownerId, TaskStatus status) {
+    }
+}
@@ -0,0 +1,294 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.audit.AuditLog;
+import com.buildmaster.projecttracker.audit.AuditWriter;
+import com.buildmaster.projecttracker.cache.OverdueTracker;
+import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+import com.buildmaster.projecttracker.dto.BulkImportResult;
+import com.buildmaster.projecttracker.dto.TaskImportRequest;
+import com.buildmaster.projecttracker.entity.Task;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams task rows into the database in fixed-size chunks. Each chunk is validated,
+ * its project and developer references are resolved with two set-based lookups, and
+ * the rows are inserted in one transaction using Hibernate JDBC batching and pooled
+ * sequence ids. A failing row is reported and skipped; it never fails the whole import.
+ * Only the first {@code app.tasks.import.max-errors} rejected rows are reported individually.
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final AuditWriter auditWriter;
+    private final TaskCacheInvalidator taskCacheInvalidator;
+    private final TaskCounterService taskCounterService;
+    private final OverdueTracker overdueTracker;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.tasks.import.max-errors:1000}")
+    private int maxErrors;
+
+    public TaskImportService(TaskRepository taskRepository,
+                             ProjectRepository projectRepository,
+                             DeveloperRepository developerRepository,
+                             AuditWriter auditWriter,
+                             TaskCacheInvalidator taskCacheInvalidator,
+                             TaskCounterService taskCounterService,
+                             OverdueTracker overdueTracker,
+                             EntityManager entityManager,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.developerRepository = developerRepository;
+        this.auditWriter = auditWriter;
+        this.taskCacheInvalidator = taskCacheInvalidator;
+        this.taskCounterService = taskCounterService;
+        this.overdueTracker = overdueTracker;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports every row produced by the iterator. The iterator is consumed lazily, so only
+     * one chunk of rows is held in memory at a time.
+     * @param rows The parsed rows, typically a Jackson MappingIterator over the request body.
+     * @return The number of rows received, created and rejected, and the first per-row errors.
+     */
+    public BulkImportResult importTasks(Iterator<TaskImportRequest> rows) {
+        Rejections errors = new Rejections(maxErrors);
+        List<NumberedRow> chunk = new ArrayList<>(chunkSize);
+        int received = 0;
+        int created = 0;
+
+        while (true) {
+            TaskImportRequest request;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                request = rows.next();
+                received++;
+            } catch (RuntimeJsonMappingException e) {
+                received++;
+                errors.add(received, "Unreadable row: " + unreadableReason(e));
+                continue;
+            } catch (RuntimeException e) {
+                errors.add(received + 1, "Malformed input, import stopped: " + e.getMessage());
+                break;
+            }
+
+            String violation = validate(request);
+            if (violation != null) {
+                errors.add(received, violation);
+                continue;
+            }
+            chunk.add(new NumberedRow(received, request));
+            if (chunk.size() >= chunkSize) {
+                created += importChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += importChunk(chunk, errors);
+        }
+
+        log.info("Bulk task import finished: {} received, {} created, {} rejected", received, created, errors.count);
+        return new BulkImportResult(received, created, errors.count, errors.reported);
+    }
+
+    private int importChunk(List<NumberedRow> chunk, Rejections errors) {
+        Set<Long> projectIds = chunk.stream().map(row -> row.request().getProjectId()).collect(Collectors.toSet());
+        Set<Long> developerIds = chunk.stream().map(row -> row.request().getDeveloperId())
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> knownProjects = projectRepository.findExistingIds(projectIds);
+        Set<Long> knownDevelopers = developerIds.isEmpty() ? Set.of() : developerRepository.findExistingIds(developerIds);
+
+        List<NumberedRow> accepted = new ArrayList<>(chunk.size());
+        for (NumberedRow row : chunk) {
+            TaskImportRequest request = row.request();
+            if (!knownProjects.contains(request.getProjectId())) {
+                errors.add(row.number(), "Project not found: " + request.getProjectId());
+            } else if (request.getDeveloperId() != null && !knownDevelopers.contains(request.getDeveloperId())) {
+                errors.add(row.number(), "Developer not found: " + request.getDeveloperId());
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            insert(accepted);
+            return accepted.size();
+        } catch (DataAccessException e) {
+            log.warn("Bulk insert of {} tasks failed, retrying row by row: {}", accepted.size(), e.getMessage());
+            int created = 0;
+            for (NumberedRow row : accepted) {
+                try {
+                    insert(List.of(row));
+                    created++;
+                } catch (DataAccessException rowFailure) {
+                    errors.add(row.number(), rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+            return created;
+        }
+    }
+
+    private void insert(List<NumberedRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Task> tasks = rows.stream().map(row -> toTask(row.request())).toList();
+            taskRepository.saveAll(tasks);
+            flush();
+
+            List<AuditLog> auditLogs = tasks.stream()
+                    .map(task -> new AuditLog("CREATE", "Task", task.getId().toString(), "system", createImportPayload(task)))
+                    .toList();
+            auditWriter.writeAll(auditLogs);
+
+            Set<Long> projectIds = new HashSet<>();
+            Set<Long> developerIds = new HashSet<>();
+            TaskCounterService.Delta counts = new TaskCounterService.Delta();
+            rows.forEach(row -> {
+                projectIds.add(row.request().getProjectId());
+                developerIds.add(row.request().getDeveloperId());
+            });
+            tasks.forEach(task -> counts.task(task.getProject().getId(),
+                    task.getDeveloper() != null ? task.getDeveloper().getId() : null, task.getStatus(), 1));
+            taskCounterService.apply(counts);
+            taskCacheInvalidator.invalidate(null, projectIds, developerIds);
+            overdueTracker.tasksChanged(tasks.stream().map(Task::getId).toList());
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * Flushes the batched inserts. The shared EntityManager does not translate exceptions, so a failing
+     * insert is translated here for the row-by-row retry to catch it like any other data access failure.
+     */
+    private void flush() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+    }
+
+    private Task toTask(TaskImportRequest request) {
+        Task task = Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO)
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .dueDate(request.getDueDate())
+                .project(projectRepository.getReferenceById(request.getProjectId()))
+                .build();
+        if (request.getDeveloperId() != null) {
+            task.setDeveloper(developerRepository.getReferenceById(request.getDeveloperId()));
+        }
+        return task;
+    }
+
+    /**
+     * MappingIterator wraps the JsonMappingException, whose original message leaves out the
+     * source location and reference chain.
+     */
+    private static String unreadableReason(RuntimeJsonMappingException e) {
+        return e.getCause() instanceof JsonMappingException mapping ? mapping.getOriginalMessage() : e.getMessage();
+    }
+
+    private String validate(TaskImportRequest request) {
+        if (request == null) {
+            return "Empty row";
+        }
+        Set<ConstraintViolation<TaskImportRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Builds the audit payload from ids only, so writing it never initializes the
+     * project or developer references created for the insert.
+     */
+    private Map<String, String> createImportPayload(Task task) {
+        Map<String, String> payload = new HashMap<>();
+        payload.put("id", task.getId().toString());
+        payload.put("title", task.getTitle());
+        payload.put("status", task.getStatus().toString());
+        payload.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
+        payload.put("projectId", task.getProject().getId().toString());
+        payload.put("developerId", task.getDeveloper() != null ? task.getDeveloper().getId().toString() : null);
+        payload.put("source", "bulk-import");
+        return payload;
+    }
+
+    private record NumberedRow(int number, TaskImportRequest request) {
+    }
+
+    /**
+     * Counts every rejected row but keeps only the first {@code limit} of them, so a large file
+     * of bad rows cannot fill the heap with errors.
+     */
+    private static final class Rejections {
+
+        private final int limit;
+        private final List<BulkImportResult.RowError> reported = new ArrayList<>();
+        private int count;
+
+        private Rejections(int limit) {
+            this.limit = limit;
+        }
+
+        private void add(int row, String message) {
+            count++;
+            if (reported.size() < limit) {
+                reported.add(new BulkImportResult.RowError(row, message));
+            }
+        }
+    }
+}
@@ -1,63 +1,114 @@
 package com.buildmaster.projecttracker.service;
 
+import com.buildmaster.projecttracker.audit.AuditDiff;
 import com.buildmaster.projecttracker.audit.AuditLog;
-import com.buildmaster.projecttracker.repository.AuditLogRepository;
+import com.buildmaster.projecttracker.audit.AuditWriter;
+import com.buildmaster.projecttracker.cache.OverdueTracker;
+import com.buildmaster.projecttracker.cache.TaskCacheDependencies;
+import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+import com.buildmaster.projecttracker.dto.AssignTaskRequest;
+import com.buildmaster.projecttracker.dto.BulkAssignResult;
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.mapper.TaskViewMapper;
 import com.buildmaster.projecttracker.entity.Developer;
+import com.buildmaster.projecttracker.entity.Project;
 import com.buildmaster.projecttracker.entity.Task;
 import com.buildmaster.projecttracker.repository.DeveloperRepository;
 import com.buildmaster.projecttracker.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TaskService {
 
+    public static final Map<String, Class<?>> SEEK_KEYS = Map.of(
+            "id", Long.class,
+            "createdAt", LocalDateTime.class);
+
+    /**
+     * The task properties an UPDATE audit log records changes of.
+     */
+    private static final String[] AUDITED_FIELDS = {
+            "title", "description", "status", "dueDate", "startDate", "endDate", "project", "developer"};
+
     private final TaskRepository taskRepository;
     private final DeveloperRepository developerRepository;
-    private final AuditLogRepository auditLogRepository;
+    private final AuditWriter auditWriter;
+    private final AuditDiff auditDiff;
+    private final TaskCacheInvalidator taskCacheInvalidator;
+    private final TaskCounterService taskCounterService;
+    private final OverdueTracker overdueTracker;
 
-    @Cacheable(value = "tasks")
-    public Optional<Task> findById(Long id) {
+    @Cacheable(cacheNames = TaskCacheDependencies.BY_ID_CACHE,
+            key = "T(com.buildmaster.projecttracker.cache.TaskCacheKey).byId(#id)")
+    @Transactional(readOnly = true)
+    public Optional<TaskView> findById(Long id) {
         log.debug("Fetching task with id: {}", id);
+        return taskRepository.findById(id).map(TaskViewMapper::toView);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Task> findEntityById(Long id) {
         return taskRepository.findById(id);
     }
 
-    @Cacheable(value = "tasks")
-    public Page<Task> findAll(Pageable pageable) {
-        return taskRepository.findAll(pageable);
+    @Cacheable(cacheNames = TaskCacheDependencies.PAGE_CACHE,
+            key = "T(com.buildmaster.projecttracker.cache.TaskCacheKey).page(#pageable)")
+    @Transactional(readOnly = true)
+    public Page<TaskView> findAll(Pageable pageable) {
+        return taskRepository.findAllViews(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskView> scroll(ScrollPosition position, Sort sort, int size, boolean includeTotal) {
+        Window<TaskView> window = taskRepository.findAllBy(position, sort, Limit.of(size))
+                .map(TaskViewMapper::toView);
+        return CursorPage.of(window, includeTotal ? taskRepository.count() : null);
     }
 
-    @Cacheable(value = "tasks")
-    public Page<Task> findByProjectId(Long projectId, Pageable pageable) {
-        return taskRepository.findByProjectId(projectId, pageable);
+    @Cacheable(cacheNames = TaskCacheDependencies.BY_PROJECT_CACHE,
+            key = "T(com.buildmaster.projecttracker.cache.TaskCacheKey).byProject(#projectId, #pageable)")
+    @Transactional(readOnly = true)
+    public Page<TaskView> findByProjectId(Long projectId, Pageable pageable) {
+        return taskRepository.findViewsByProjectId(projectId, pageable);
     }
 
-    @Cacheable(value = "tasks")
-    public Page<Task> findByDeveloperId(Long developerId, Pageable pageable) {
-        return taskRepository.findByDeveloperId(developerId, pageable);
+    @Cacheable(cacheNames = TaskCacheDependencies.BY_DEVELOPER_CACHE,
+            key = "T(com.buildmaster.projecttracker.cache.TaskCacheKey).byDeveloper(#developerId, #pageable)")
+    @Transactional(readOnly = true)
+    public Page<TaskView> findByDeveloperId(Long developerId, Pageable pageable) {
+        return taskRepository.findViewsByDeveloperId(developerId, pageable);
     }
 
-    @Cacheable(value = "tasks")
-    public List<Task> findOverdueTasks() {
-        return taskRepository.findOverdueTasks(LocalDate.now());
+    public List<TaskView> findOverdueTasks() {
+        return overdueTracker.overdueTasks();
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
     public Task assignTaskToDeveloper(Long taskId, Long developerId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -65,50 +116,180 @@ public class TaskService {
         Developer developer = developerRepository.findById(developerId)
                 .orElseThrow(() -> new RuntimeException("Developer not found"));
 
+        Long previousDeveloperId = task.getDeveloper() != null ? task.getDeveloper().getId() : null;
         task.setDeveloper(developer);
         Task savedTask = taskRepository.save(task);
-        Map<String, String> payload = createTaskStringPayload(savedTask);
+        Map<String, String> payload = updatePayload(savedTask);
         payload.put("assignedDeveloper", developer.getName());
-        auditLogRepository.save(new AuditLog("UPDATE", "Task",
+        taskCounterService.apply(new TaskCounterService.Delta()
+                .developer(previousDeveloperId, task.getStatus(), -1)
+                .developer(developerId, task.getStatus(), 1));
+        auditWriter.write(new AuditLog("UPDATE", "Task",
                 taskId.toString(), "system", payload));
+        taskCacheInvalidator.invalidate(taskId, List.of(task.getProject().getId()),
+                idsOf(previousDeveloperId, developerId));
+        overdueTracker.tasksChanged(List.of(taskId));
 
         log.info("Task {} assigned to developer {}", task.getTitle(), developer.getName());
         return savedTask;
     }
 
+    /**
+     * Applies many task assignments at once. Tasks and developers are resolved with one query each,
+     * the updates are issued as one UPDATE per target developer, and the audit entries are written
+     * in a single batch. Unknown tasks or developers are reported and skipped.
+     * @param assignments The (taskId, developerId) pairs; a task listed twice keeps its last assignment.
+     * @return The number of tasks assigned and the rejected assignments.
+     */
+    @Transactional
+    public BulkAssignResult assignTasksToDevelopers(List<AssignTaskRequest> assignments) {
+        List<BulkAssignResult.AssignmentError> errors = new ArrayList<>();
+        Map<Long, Long> developerByTask = new LinkedHashMap<>();
+        for (AssignTaskRequest assignment : assignments) {
+            if (assignment.getTaskId() == null || assignment.getDeveloperId() == null) {
+                errors.add(new BulkAssignResult.AssignmentError(assignment.getTaskId(), assignment.getDeveloperId(),
+                        "taskId and developerId are required"));
+            } else {
+                developerByTask.put(assignment.getTaskId(), assignment.getDeveloperId());
+            }
+        }
+        if (developerByTask.isEmpty()) {
+            return new BulkAssignResult(0, 0, errors);
+        }
+
+        Map<Long, TaskRepository.TaskOwnerIds> owners = taskRepository.lockOwnerIdsByIdIn(developerByTask.keySet()).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskOwnerIds::getTaskId, Function.identity()));
+        Map<Long, String> developerNames = developerRepository.findNamesByIdIn(new HashSet<>(developerByTask.values())).stream()
+                .collect(Collectors.toMap(DeveloperRepository.DeveloperName::getId, DeveloperRepository.DeveloperName::getName));
+
+        Map<Long, List<Long>> tasksByDeveloper = new LinkedHashMap<>();
+        List<AuditLog> auditLogs = new ArrayList<>();
+        Set<Long> affectedProjects = new HashSet<>();
+        Set<Long> affectedDevelopers = new HashSet<>();
+        TaskCounterService.Delta counts = new TaskCounterService.Delta();
+        int assigned = 0;
+        for (Map.Entry<Long, Long> entry : developerByTask.entrySet()) {
+            Long taskId = entry.getKey();
+            Long developerId = entry.getValue();
+            TaskRepository.TaskOwnerIds owner = owners.get(taskId);
+            if (owner == null) {
+                errors.add(new BulkAssignResult.AssignmentError(taskId, developerId, "Task not found"));
+                continue;
+            }
+            if (!developerNames.containsKey(developerId)) {
+                errors.add(new BulkAssignResult.AssignmentError(taskId, developerId, "Developer not found"));
+                continue;
+            }
+            assigned++;
+            if (developerId.equals(owner.getDeveloperId())) {
+                continue;
+            }
+            tasksByDeveloper.computeIfAbsent(developerId, id -> new ArrayList<>()).add(taskId);
+            affectedProjects.add(owner.getProjectId());
+            affectedDevelopers.add(developerId);
+            if (owner.getDeveloperId() != null) {
+                affectedDevelopers.add(owner.getDeveloperId());
+            }
+            counts.developer(owner.getDeveloperId(), owner.getStatus(), -1)
+                    .developer(developerId, owner.getStatus(), 1);
+
+            Map<String, String> payload = new HashMap<>();
+            AuditDiff.put(payload, "developerId", owner.getDeveloperId(), developerId);
+            payload.put("assignedDeveloper", developerNames.get(developerId));
+            auditLogs.add(new AuditLog("UPDATE", "Task", taskId.toString(), "system", payload));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        tasksByDeveloper.forEach((developerId, taskIds) ->
+                taskRepository.assignDeveloper(taskIds, developerRepository.getReferenceById(developerId), now));
+        taskCounterService.apply(counts);
+        if (!auditLogs.isEmpty()) {
+            auditWriter.writeAll(auditLogs);
+            List<Long> changedTasks = tasksByDeveloper.values().stream().flatMap(List::stream).toList();
+            taskCacheInvalidator.invalidateTasks(changedTasks, affectedProjects, affectedDevelopers);
+            overdueTracker.tasksChanged(changedTasks);
+        }
+
+        log.info("Bulk assignment: {} of {} tasks assigned in {} update statements",
+                assigned, developerByTask.size(), tasksByDeveloper.size());
+        return new BulkAssignResult(developerByTask.size(), assigned, errors);
+    }
+
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
     public Task save(Task task) {
         boolean isNew = task.getId() == null;
+        Optional<TaskRepository.TaskOwnerIds> previousOwners = isNew
+                ? Optional.empty() : taskRepository.lockOwnerIdsById(task.getId());
         Task savedTask = taskRepository.save(task);
-        Map<String, String> payload = createTaskStringPayload(savedTask);
+        Map<String, String> payload = isNew ? createTaskStringPayload(savedTask) : updatePayload(savedTask);
+        TaskCounterService.Delta counts = new TaskCounterService.Delta()
+                .task(idOf(savedTask.getProject()), idOf(savedTask.getDeveloper()), savedTask.getStatus(), 1);
+        previousOwners.ifPresent(previous ->
+                counts.task(previous.getProjectId(), previous.getDeveloperId(), previous.getStatus(), -1));
+        taskCounterService.apply(counts);
         String actionType = isNew ? "CREATE" : "UPDATE";
-        auditLogRepository.save(new AuditLog(actionType, "Task",
+        auditWriter.write(new AuditLog(actionType, "Task",
                 savedTask.getId().toString(), "system", payload));
+        taskCacheInvalidator.invalidate(savedTask.getId(),
+                idsOf(previousOwners.map(TaskRepository.TaskOwnerIds::getProjectId).orElse(null), idOf(savedTask.getProject())),
+                idsOf(previousOwners.map(TaskRepository.TaskOwnerIds::getDeveloperId).orElse(null), idOf(savedTask.getDeveloper())));
+        overdueTracker.tasksChanged(List.of(savedTask.getId()));
 
         log.info("Task {} successfully: {}", actionType.toLowerCase(), savedTask.getTitle());
         return savedTask;
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
     public void deleteById(Long id) {
-        Optional<Task> task = taskRepository.findById(id);
+        Optional<Task> task = taskRepository.lockOwnerIdsById(id).flatMap(owners -> taskRepository.findById(id));
         if (task.isPresent()) {
             taskRepository.deleteById(id);
+            taskCounterService.apply(new TaskCounterService.Delta().task(idOf(task.get().getProject()),
+                    idOf(task.get().getDeveloper()), task.get().getStatus(), -1));
             Map<String, String> payload = createTaskStringPayload(task.get());
-            auditLogRepository.save(new AuditLog("DELETE", "Task",
+            auditWriter.write(new AuditLog("DELETE", "Task",
                     id.toString(), "system", payload));
+            taskCacheInvalidator.invalidate(id, idsOf(idOf(task.get().getProject())),
+                    idsOf(idOf(task.get().getDeveloper())));
+            overdueTracker.tasksDeleted(List.of(id));
 
             log.info("Task deleted successfully: {}", task.get().getTitle());
         }
     }
 
-    @Cacheable(value = "tasks")
+    @Cacheable(cacheNames = TaskCacheDependencies.STATUS_COUNTS_CACHE, sync = true,
+            key = "T(com.buildmaster.projecttracker.cache.TaskCacheKey).statusCounts()")
+    @Transactional(readOnly = true)
     public List<Object[]> getTaskCountsByStatus() {
         return taskRepository.countTasksByStatus();
     }
 
+    private static Long idOf(Project project) {
+        return project != null ? project.getId() : null;
+    }
+
+    private static Long idOf(Developer developer) {
+        return developer != null ? developer.getId() : null;
+    }
+
+    private static List<Long> idsOf(Long... ids) {
+        List<Long> result = new ArrayList<>();
+        for (Long id : ids) {
+            if (id != null) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The changed fields of a saved task, read before the session flushes, or the full payload
+     * if the task is not managed.
+     */
+    private Map<String, String> updatePayload(Task task) {
+        return auditDiff.changes(task, AUDITED_FIELDS).orElseGet(() -> createTaskStringPayload(task));
+    }
+
     /**
      * Creates a payload map for AuditLog, ensuring all values are strings.
      * This method is crucial for compatibility with AuditLog's Map<String, String> payload.
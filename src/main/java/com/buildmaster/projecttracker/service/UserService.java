@@ -1,5 +1,6 @@
 package com.buildmaster.projecttracker.service;
 
+            import com.buildmaster.projecttracker.dto.CursorPage;
             import com.buildmaster.projecttracker.dto.UserDTO;
             import com.buildmaster.projecttracker.entity.Admin;
             import com.buildmaster.projecttracker.entity.Contractor;
@@ -9,19 +10,34 @@ package com.buildmaster.projecttracker.service;
             import com.buildmaster.projecttracker.repository.ContractorRepository;
             import com.buildmaster.projecttracker.repository.ManagerRepository;
             import com.buildmaster.projecttracker.repository.UserRepository;
-            import jakarta.transaction.Transactional;
+            import com.buildmaster.projecttracker.util.SearchQuery;
             import lombok.RequiredArgsConstructor;
+            import org.springframework.data.domain.Limit;
             import org.springframework.data.domain.Page;
             import org.springframework.data.domain.Pageable;
+            import org.springframework.data.domain.ScrollPosition;
+            import org.springframework.data.domain.Slice;
+            import org.springframework.data.domain.Sort;
+            import org.springframework.data.domain.Window;
             import org.springframework.security.crypto.password.PasswordEncoder;
             import org.springframework.stereotype.Service;
+            import org.springframework.transaction.annotation.Transactional;
 
+            import java.time.LocalDateTime;
+            import java.util.Map;
             import java.util.Optional;
 
             @Service
             @Transactional
             @RequiredArgsConstructor
             public class UserService {
+
+                public static final Map<String, Class<?>> SEEK_KEYS = Map.of(
+                        "id", Long.class,
+                        "username", String.class,
+                        "email", String.class,
+                        "createdAt", LocalDateTime.class);
+
                 private final PasswordEncoder passwordEncoder;
                 private final ContractorRepository contractorRepository;
                 private final ManagerRepository managerRepository;
@@ -49,10 +65,18 @@ package com.buildmaster.projecttracker.service;
                     return savedUser;
                 }
 
+                @Transactional(readOnly = true)
                 public Page<User> findAll(Pageable pageable) {
                     return userRepository.findAll(pageable);
                 }
 
+                @Transactional(readOnly = true)
+                public CursorPage<User> scroll(ScrollPosition position, Sort sort, int size, boolean includeTotal) {
+                    Window<User> window = userRepository.findAllBy(position, sort, Limit.of(size));
+                    return CursorPage.of(window, includeTotal ? userRepository.count() : null);
+                }
+
+                @Transactional(readOnly = true)
                 public Optional<User> findById(Long id) {
                     return userRepository.findById(id);
                 }
@@ -74,14 +98,22 @@ package com.buildmaster.projecttracker.service;
                     userRepository.deleteById(id);
                 }
 
-                public Page<User> searchUsers(String email, Pageable pageable) {
-                    if (email != null && !email.isEmpty()) {
-                        return userRepository.findByEmailContainingIgnoreCase(email, pageable);
+                /**
+                 * Fuzzy search over username and email, best match first. A blank query lists all users.
+                 * @param query The search text, at least three characters unless blank.
+                 * @param pageable The slice to return.
+                 * @return The matching users.
+                 */
+                @Transactional(readOnly = true)
+                public Slice<User> searchUsers(String query, Pageable pageable) {
+                    if (query != null && !query.isBlank()) {
+                        return userRepository.search(SearchQuery.normalize(query), pageable);
                     }
                     return userRepository.findAll(pageable);
                 }
 
 
+                @Transactional(readOnly = true)
                 public boolean existsByEmail(String email) {
                     return userRepository.existsByEmail(email);
                 }
@@ -0,0 +1,46 @@
+package com.buildmaster.projecttracker.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work on in-memory state until the current transaction commits, so readers never see
+ * changes that are rolled back. Outside a transaction the work runs right away.
+ */
+@Slf4j
+public class AfterCommit {
+
+    /**
+     * Runs the action after the current transaction commits.
+     * @param action The work to run.
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the action after the current transaction commits, logging a failure instead of throwing it.
+     * For state that a periodic reconciliation repairs, where the committed write must not fail.
+     * @param action The work to run.
+     * @param failure The warning logged with the exception if the action fails.
+     */
+    public static void runOrLog(Runnable action, String failure) {
+        run(() -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn(failure, e);
+            }
+        });
+    }
+}
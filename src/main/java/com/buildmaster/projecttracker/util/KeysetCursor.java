@@ -0,0 +1,93 @@
+package com.buildmaster.projecttracker.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursor tokens and validates
+ * the sort keys a client may seek on. Only columns backed by an (column, id) index
+ * should be listed as seek keys, otherwise the seek degrades into a sort over the whole table.
+ */
+public class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Builds the seek order for a listing: the requested key followed by id as a tiebreaker.
+     * @param sortBy The requested sort property.
+     * @param sortDir "asc" or "desc".
+     * @param seekKeys The properties the listing may be sorted by, mapped to their Java type.
+     * @return The Sort to scroll with.
+     * @throws IllegalArgumentException if sortBy is not an allowed seek key.
+     */
+    public static Sort seekSort(String sortBy, String sortDir, Map<String, Class<?>> seekKeys) {
+        if (!seekKeys.containsKey(sortBy)) {
+            throw new IllegalArgumentException("sortBy must be one of " + seekKeys.keySet());
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortBy);
+        return sortBy.equals("id") ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+        Map<String, String> keys = new LinkedHashMap<>();
+        keyset.getKeys().forEach((key, value) -> keys.put(key, value != null ? value.toString() : null));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(keys));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor token back into a keyset position.
+     * @param token The token returned as nextCursor by a previous call, or null for the first page.
+     * @param seekKeys The allowed seek keys and their Java types.
+     * @return The position to continue scrolling from.
+     * @throws IllegalArgumentException if the token is malformed or references an unknown key.
+     */
+    public static ScrollPosition decode(String token, Map<String, Class<?>> seekKeys) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, String> raw;
+        try {
+            raw = MAPPER.readValue(Base64.getUrlDecoder().decode(token), new TypeReference<>() {});
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : raw.entrySet()) {
+            Class<?> type = seekKeys.get(entry.getKey());
+            if (type == null || entry.getValue() == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            keys.put(entry.getKey(), convert(entry.getValue(), type));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        try {
+            if (type == Long.class) return Long.valueOf(value);
+            if (type == LocalDate.class) return LocalDate.parse(value);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+            return value;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
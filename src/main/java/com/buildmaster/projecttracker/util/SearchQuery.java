@@ -0,0 +1,29 @@
+package com.buildmaster.projecttracker.util;
+
+import java.util.Locale;
+
+/**
+ * Normalizes user-typed search text for the trigram indexes. Queries shorter than three characters
+ * produce too few trigrams to narrow an index scan, so they are rejected rather than scanning the table.
+ */
+public class SearchQuery {
+
+    public static final int MIN_LENGTH = 3;
+    public static final int MAX_LENGTH = 100;
+
+    /**
+     * @param text The raw query.
+     * @return The trimmed, lower-case query.
+     * @throws IllegalArgumentException if the query is shorter than {@link #MIN_LENGTH} or longer than {@link #MAX_LENGTH}.
+     */
+    public static String normalize(String text) {
+        String query = text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+        if (query.length() < MIN_LENGTH) {
+            throw new IllegalArgumentException("Search needs at least " + MIN_LENGTH + " characters");
+        }
+        if (query.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Search cannot exceed " + MAX_LENGTH + " characters");
+        }
+        return query;
+    }
+}
@@ -0,0 +1,39 @@
+package com.buildmaster.projecttracker.util;
+
+/**
+ * Maps entity versions to HTTP entity tags, so clients can make conditional updates with If-Match.
+ */
+public class VersionTag {
+
+    /**
+     * @param version The entity version.
+     * @return The strong ETag for that version, e.g. {@code "3"}.
+     */
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the version a client expects from an If-Match header.
+     * @param ifMatch The header value, e.g. {@code "3"} or {@code W/"3"}; null or {@code *} for none.
+     * @return The expected version, or null if the update is unconditional.
+     * @throws IllegalArgumentException if the header does not name a single version.
+     */
+    public static Long parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must carry a single entity version, e.g. \"3\"");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+-- Baseline schema, matching the JPA mappings as of the switch from ddl-auto to migrations.
+
+CREATE TABLE users
+(
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username                VARCHAR(50)  NOT NULL,
+    email                   VARCHAR(150) NOT NULL,
+    first_name              VARCHAR(50)  NOT NULL,
+    last_name               VARCHAR(50)  NOT NULL,
+    password                VARCHAR(100),
+    auth_provider           VARCHAR(255) NOT NULL,
+    provider_id             VARCHAR(255),
+    email_verified          BOOLEAN      NOT NULL,
+    account_non_expired     BOOLEAN      NOT NULL,
+    account_non_locked      BOOLEAN      NOT NULL,
+    credentials_non_expired BOOLEAN      NOT NULL,
+    enabled                 BOOLEAN      NOT NULL,
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6),
+    last_login              TIMESTAMP(6),
+    role                    VARCHAR(255),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
+
+CREATE TABLE roles
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(50)  NOT NULL,
+    description VARCHAR(200),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE UNIQUE INDEX idx_role_name ON roles (name);
+
+CREATE TABLE user_roles
+(
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role_id BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE developers
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name              VARCHAR(100) NOT NULL,
+    email             VARCHAR(150) NOT NULL,
+    skills            VARCHAR(500),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    task_count        BIGINT       NOT NULL DEFAULT 0,
+    todo_count        BIGINT       NOT NULL DEFAULT 0,
+    in_progress_count BIGINT       NOT NULL DEFAULT 0,
+    in_review_count   BIGINT       NOT NULL DEFAULT 0,
+    completed_count   BIGINT       NOT NULL DEFAULT 0,
+    blocked_count     BIGINT       NOT NULL DEFAULT 0,
+    user_id           BIGINT REFERENCES users (id),
+    CONSTRAINT uk_developers_email UNIQUE (email),
+    CONSTRAINT uk_developers_user_id UNIQUE (user_id)
+);
+
+CREATE INDEX idx_developers_name_id ON developers (name, id);
+CREATE INDEX idx_developers_created_at_id ON developers (created_at, id);
+CREATE INDEX idx_developers_task_count_id ON developers (task_count, id);
+
+CREATE TABLE developer_roles
+(
+    developer_id BIGINT NOT NULL REFERENCES developers (id),
+    role_id      BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (developer_id, role_id)
+);
+
+CREATE TABLE projects
+(
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name              VARCHAR(100) NOT NULL,
+    description       VARCHAR(500),
+    start_date        DATE,
+    end_date          DATE,
+    deadline          DATE         NOT NULL,
+    status            VARCHAR(20)  NOT NULL
+        CHECK (status IN ('PLANNING', 'IN_PROGRESS', 'COMPLETED', 'ON_HOLD', 'CANCELLED')),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    task_count        BIGINT       NOT NULL DEFAULT 0,
+    todo_count        BIGINT       NOT NULL DEFAULT 0,
+    in_progress_count BIGINT       NOT NULL DEFAULT 0,
+    in_review_count   BIGINT       NOT NULL DEFAULT 0,
+    completed_count   BIGINT       NOT NULL DEFAULT 0,
+    blocked_count     BIGINT       NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_projects_name_id ON projects (name, id);
+CREATE INDEX idx_projects_deadline_id ON projects (deadline, id);
+CREATE INDEX idx_projects_created_at_id ON projects (created_at, id);
+CREATE INDEX idx_projects_task_count_id ON projects (task_count, id);
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks
+(
+    id           BIGINT PRIMARY KEY,
+    title        VARCHAR(200) NOT NULL,
+    description  VARCHAR(1000),
+    status       VARCHAR(20)  NOT NULL
+        CHECK (status IN ('TODO', 'IN_PROGRESS', 'IN_REVIEW', 'COMPLETED', 'BLOCKED')),
+    start_date   DATE,
+    end_date     DATE,
+    due_date     DATE,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    project_id   BIGINT       NOT NULL REFERENCES projects (id),
+    developer_id BIGINT REFERENCES developers (id)
+);
+
+CREATE INDEX idx_tasks_created_at_id ON tasks (created_at, id);
+
+CREATE TABLE admins
+(
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id             BIGINT REFERENCES users (id),
+    active              BOOLEAN      NOT NULL,
+    date_joined         TIMESTAMP(6) NOT NULL,
+    department          VARCHAR(255),
+    access_level        VARCHAR(255),
+    last_login          TIMESTAMP(6),
+    can_modify_users    BOOLEAN      NOT NULL,
+    can_modify_projects BOOLEAN      NOT NULL,
+    CONSTRAINT uk_admins_user_id UNIQUE (user_id)
+);
+
+CREATE TABLE managers
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id          BIGINT REFERENCES users (id),
+    active           BOOLEAN      NOT NULL,
+    date_joined      TIMESTAMP(6) NOT NULL,
+    department       VARCHAR(255),
+    team_size        INTEGER,
+    projects_managed INTEGER,
+    management_level VARCHAR(255),
+    CONSTRAINT uk_managers_user_id UNIQUE (user_id)
+);
+
+CREATE TABLE contractors
+(
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id             BIGINT REFERENCES users (id),
+    active              BOOLEAN      NOT NULL,
+    date_joined         TIMESTAMP(6) NOT NULL,
+    specialization      VARCHAR(255),
+    hourly_rate         DOUBLE PRECISION,
+    availability_status VARCHAR(255),
+    contract_end_date   TIMESTAMP(6),
+    CONSTRAINT uk_contractors_user_id UNIQUE (user_id)
+);
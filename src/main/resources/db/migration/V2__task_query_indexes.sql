@@ -0,0 +1,20 @@
+-- Indexes for the TaskRepository and ProjectRepository query shapes.
+-- PostgreSQL does not index foreign keys on its own, so the owner lookups lead with the FK column.
+
+-- findByProjectId, findViewsByProjectId, findByProjectIdAndStatus, countByDeveloperAndStatusForProject
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status);
+
+-- findByDeveloperId, findViewsByDeveloperId
+CREATE INDEX idx_tasks_developer_status ON tasks (developer_id, status);
+
+-- findByStatus, paged in id order
+CREATE INDEX idx_tasks_status_id ON tasks (status, id);
+
+-- findOverdueTasks, findOverdueViews: only open tasks are ever searched by due date
+CREATE INDEX idx_tasks_open_due_date ON tasks (due_date) WHERE status <> 'COMPLETED';
+
+-- ProjectRepository.findByStatus, paged in id order
+CREATE INDEX idx_projects_status_id ON projects (status, id);
+
+-- findOverdueProjects
+CREATE INDEX idx_projects_open_deadline ON projects (deadline) WHERE status <> 'COMPLETED';
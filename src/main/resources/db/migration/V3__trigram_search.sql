@@ -0,0 +1,18 @@
+-- Fuzzy, ranked search over developers and users (DeveloperRepository.search, UserRepository.search).
+-- Each table gets a generated lower-case document of its searchable columns and a trigram GiST index on it.
+-- GiST rather than GIN because it can return rows already ordered by word-similarity distance (<<->),
+-- so a top-N type-ahead stops after N index hits instead of ranking every match.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE developers
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS
+        (lower(name || ' ' || email || ' ' || coalesce(skills, ''))) STORED;
+
+CREATE INDEX idx_developers_search_trgm ON developers USING gist (search_text gist_trgm_ops);
+
+ALTER TABLE users
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS
+        (lower(username || ' ' || email)) STORED;
+
+CREATE INDEX idx_users_search_trgm ON users USING gist (search_text gist_trgm_ops);
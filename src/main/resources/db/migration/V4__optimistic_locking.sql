@@ -0,0 +1,7 @@
+-- Version columns for JPA optimistic locking on Project and Developer.
+-- Existing rows start at version 0; every update through Hibernate or the targeted
+-- PATCH statements increments it, and a stale version makes the write fail instead of winning.
+
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE developers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
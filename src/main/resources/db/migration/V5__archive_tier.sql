@@ -0,0 +1,28 @@
+-- Archive tier for completed projects (ArchiveRepository, ArchiveService).
+-- Archived projects and their tasks are moved out of the live tables so the live indexes only cover
+-- current work. The archive tables mirror the live columns; a column added to projects or tasks must be
+-- added here and to the column lists in ArchiveRepository as well.
+
+CREATE TABLE projects_archive (LIKE projects INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+
+ALTER TABLE projects_archive
+    ADD PRIMARY KEY (id),
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL;
+
+CREATE TABLE tasks_archive (LIKE tasks INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+
+-- A developer may be deleted once only archived tasks reference them; the archived tasks become unassigned.
+ALTER TABLE tasks_archive
+    ADD PRIMARY KEY (id),
+    ADD COLUMN archived_at TIMESTAMP(6) NOT NULL,
+    ADD FOREIGN KEY (project_id) REFERENCES projects_archive (id),
+    ADD FOREIGN KEY (developer_id) REFERENCES developers (id) ON DELETE SET NULL;
+
+-- findTasksByProjectId, restore
+CREATE INDEX idx_tasks_archive_project_id ON tasks_archive (project_id, id);
+
+-- findProjectsByStatus with includeArchived
+CREATE INDEX idx_projects_archive_status_id ON projects_archive (status, id);
+
+-- findArchivableProjectIds: completed projects by the time of their last change
+CREATE INDEX idx_projects_completed_changed ON projects (COALESCE(updated_at, created_at), id) WHERE status = 'COMPLETED';
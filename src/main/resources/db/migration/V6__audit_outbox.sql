@@ -0,0 +1,12 @@
+-- Transactional outbox for audit events (AuditWriter, AuditRelay).
+-- Audit events are inserted in the same transaction as the change they describe and relayed to the
+-- Mongo audit_logs collection afterwards. event_id becomes the Mongo _id, so a batch that is delivered
+-- again after a crash overwrites the same documents instead of duplicating them.
+
+CREATE TABLE audit_outbox
+(
+    id         BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_id   UUID         NOT NULL UNIQUE,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+    document   JSONB        NOT NULL
+);
@@ -0,0 +1,134 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository;
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository.OutboxBacklog;
+import com.buildmaster.projecttracker.repository.AuditOutboxRepository.OutboxEvent;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditRelayTest {
+
+    private final AuditOutboxRepository outboxRepository = mock(AuditOutboxRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulk = mock(BulkOperations.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuditRelay relay = new AuditRelay(outboxRepository, mongoTemplate,
+            mock(PlatformTransactionManager.class), meterRegistry, 2);
+
+    @BeforeEach
+    void stubMongo() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class)).thenReturn(bulk);
+        when(outboxRepository.backlog()).thenReturn(new OutboxBacklog(0, null));
+    }
+
+    @Test
+    void relaysFullBatchesUntilTheOutboxIsEmpty() {
+        List<OutboxEvent> events = events(3);
+        when(outboxRepository.lockNextBatch(2)).thenReturn(events.subList(0, 2), events.subList(2, 3));
+
+        assertThat(relay.relay()).isEqualTo(3);
+
+        verify(bulk, times(3)).insert(any(AuditLog.class));
+        verify(bulk, times(2)).execute();
+        verify(outboxRepository).delete(List.of(1L, 2L));
+        verify(outboxRepository).delete(List.of(3L));
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.auditLog().getId()).isEqualTo(event.eventId().toString());
+            assertThat(event.auditLog().getRolledUp()).isFalse();
+        });
+        assertThat(meterRegistry.get("audit.relayed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void eventsAlreadyStoredByAnEarlierDeliveryAreNotOverwritten() {
+        when(outboxRepository.lockNextBatch(2)).thenReturn(events(1));
+        when(bulk.execute()).thenThrow(rejected(AuditRelay.DUPLICATE_KEY));
+
+        assertThat(relay.relay()).isEqualTo(1);
+
+        verify(bulk).insert(any(AuditLog.class));
+        verify(outboxRepository).delete(List.of(1L));
+        assertThat(meterRegistry.get("audit.relay.failures").counter().count()).isZero();
+    }
+
+    @Test
+    void otherWriteErrorsKeepTheBatchInTheOutbox() {
+        when(outboxRepository.lockNextBatch(2)).thenReturn(events(2));
+        when(bulk.execute()).thenThrow(rejected(AuditRelay.DUPLICATE_KEY, 121));
+
+        assertThat(relay.relay()).isZero();
+
+        verify(outboxRepository, never()).delete(anyCollection());
+        assertThat(meterRegistry.get("audit.relay.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void eventsStayInTheOutboxWhenMongoFails() {
+        when(outboxRepository.lockNextBatch(anyInt())).thenReturn(events(2));
+        when(bulk.execute()).thenThrow(new IllegalStateException("mongo down"));
+        when(outboxRepository.backlog()).thenReturn(new OutboxBacklog(2, LocalDateTime.now().minusMinutes(5)));
+
+        assertThat(relay.relay()).isZero();
+
+        verify(outboxRepository, never()).delete(anyCollection());
+        assertThat(meterRegistry.get("audit.relay.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("audit.outbox.pending").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(300_000);
+    }
+
+    @Test
+    void emptyOutboxWritesNothingToMongo() {
+        when(outboxRepository.lockNextBatch(2)).thenReturn(List.of());
+
+        assertThat(relay.relay()).isZero();
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(AuditLog.class));
+    }
+
+    /**
+     * A bulk write failure in which the operations at consecutive indexes failed with the given codes.
+     */
+    static BulkOperationException rejected(int... codes) {
+        List<BulkWriteError> errors = IntStream.range(0, codes.length)
+                .mapToObj(index -> new BulkWriteError(codes[index], "rejected", new BsonDocument(), index))
+                .toList();
+        return new BulkOperationException("rejected", new MongoBulkWriteException(mock(BulkWriteResult.class),
+                errors, null, new ServerAddress(), Set.of()));
+    }
+
+    private static List<OutboxEvent> events(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new OutboxEvent(id, UUID.randomUUID(), LocalDateTime.now(),
+                        new AuditLog("UPDATE", "Task", String.valueOf(id), "system", Map.of())))
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package com.buildmaster.projecttracker.audit;
+
+import com.buildmaster.projecttracker.enums.RollupGranularity;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditRollupsTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations minutes = mock(BulkOperations.class);
+    private final BulkOperations hours = mock(BulkOperations.class);
+    private final BulkOperations days = mock(BulkOperations.class);
+    private final AuditRollups rollups = new AuditRollups(mongoTemplate, 10, Duration.ofMinutes(5), Duration.ZERO,
+            Duration.ofDays(14), Duration.ofDays(400));
+
+    @BeforeEach
+    void stubCollections() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RollupGranularity.MINUTE.getCollection()))
+                .thenReturn(minutes);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RollupGranularity.HOUR.getCollection()))
+                .thenReturn(hours);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RollupGranularity.DAY.getCollection()))
+                .thenReturn(days);
+    }
+
+    @Test
+    void eventsAreClaimedCountedOncePerBucketAndKeyAndMarked() {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 12, 0, 10);
+        List<AuditLog> auditLogs = List.of(
+                log("UPDATE", time),
+                log("UPDATE", time.plusSeconds(20)),
+                log("UPDATE", time.plusMinutes(5)),
+                log("CREATE", time));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(auditLogs, auditLogs);
+
+        assertThat(rollups.rollUp()).isEqualTo(4);
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), updates.capture(), eq(AuditLog.class));
+        Document claim = updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class);
+        Object batch = claim.get("rollupBatch");
+        assertThat(batch).isNotNull();
+        assertThat(claim.get("rollupOwner")).isNotNull();
+        assertThat(claim.get("rollupClaimedAt")).isNotNull();
+        assertThat(updates.getAllValues().get(1).getUpdateObject().get("$set", Document.class).get("rolledUp"))
+                .isEqualTo(true);
+        verify(minutes, times(3)).upsert(any(Query.class), any(Update.class));
+        ArgumentCaptor<Query> hourQueries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> hourUpdates = ArgumentCaptor.forClass(Update.class);
+        verify(hours, times(2)).upsert(hourQueries.capture(), hourUpdates.capture());
+        assertThat(hourQueries.getAllValues())
+                .allSatisfy(query -> assertThat(query.getQueryObject().get("batches", Document.class).get("$ne"))
+                        .isEqualTo(batch));
+        assertThat(hourUpdates.getAllValues())
+                .extracting(update -> update.getUpdateObject().get("$inc", Document.class).get("count"))
+                .containsExactlyInAnyOrder(3L, 1L);
+        verify(days, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(minutes).execute();
+        verify(hours).execute();
+        verify(days).execute();
+    }
+
+    @Test
+    void anInterruptedBatchIsResumedWithoutCountingItTwice() {
+        AuditLog claimed = log("UPDATE", LocalDateTime.of(2024, 5, 1, 12, 0));
+        claimed.setRollupBatch("interrupted");
+        claimed.setRollupOwner("crashed instance");
+        claimed.setRollupClaimedAt(LocalDateTime.now().minusHours(1));
+        when(mongoTemplate.findOne(any(Query.class), eq(AuditLog.class))).thenReturn(claimed);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of(claimed));
+        when(minutes.execute()).thenThrow(AuditRelayTest.rejected(AuditRelay.DUPLICATE_KEY));
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(RollupGranularity.MINUTE.getCollection())))
+                .thenThrow(new DuplicateKeyException("already counted"));
+
+        assertThat(rollups.rollUp()).isEqualTo(1);
+
+        ArgumentCaptor<Query> retried = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).upsert(retried.capture(), any(Update.class),
+                eq(RollupGranularity.MINUTE.getCollection()));
+        assertThat(retried.getValue().getQueryObject().get("batches", Document.class).get("$ne"))
+                .isEqualTo("interrupted");
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), updates.capture(), eq(AuditLog.class));
+        assertThat(updates.getValue().getUpdateObject().get("$set", Document.class).get("rolledUp")).isEqualTo(true);
+    }
+
+    @Test
+    void anotherInstancesBatchIsOnlyResumedOnceItsClaimExpired() {
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        assertThat(rollups.rollUp()).isZero();
+
+        ArgumentCaptor<Query> resumable = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(resumable.capture(), eq(AuditLog.class));
+        List<Document> conditions = resumable.getValue().getQueryObject().getList("$or", Document.class);
+        assertThat(conditions).hasSize(2);
+        assertThat(conditions.get(0).get("rollupOwner")).isNotNull();
+        assertThat(conditions.get(1).get("rollupClaimedAt", Document.class).get("$lt", LocalDateTime.class))
+                .isBetween(before.minusMinutes(5), LocalDateTime.now().minusMinutes(5));
+    }
+
+    @Test
+    void aBatchIsNotMarkedUntilEveryCounterIncludesIt() {
+        AuditLog auditLog = log("UPDATE", LocalDateTime.of(2024, 5, 1, 12, 0));
+        auditLog.setId("1");
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of(auditLog));
+        when(hours.execute()).thenThrow(AuditRelayTest.rejected(121));
+
+        assertThat(rollups.rollUp()).isZero();
+
+        verify(mongoTemplate).updateMulti(any(Query.class), any(Update.class), eq(AuditLog.class));
+        verify(days, never()).execute();
+    }
+
+    @Test
+    void trendsSpanningTooManyBucketsAreRejected() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        assertThatThrownBy(() -> rollups.trend(RollupGranularity.MINUTE, "Task", "UPDATE", null, null,
+                from, from.plusMonths(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rollups.trend(RollupGranularity.HOUR, null, null, null, null, from, from))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AuditLog log(String actionType, LocalDateTime timestamp) {
+        AuditLog auditLog = new AuditLog(actionType, "Task", "1", "system", Map.of());
+        auditLog.setTimestamp(timestamp);
+        return auditLog;
+    }
+}
@@ -0,0 +1,60 @@
+package com.buildmaster.projecttracker.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyTrackingCacheTest {
+
+    private final DependencyTrackingCache cache = new DependencyTrackingCache(new ConcurrentMapCache("tasks"),
+            new CacheDependencyIndex(new CacheDependencyResolver() {
+                @Override
+                public Collection<String> cacheNames() {
+                    return List.of("tasks");
+                }
+
+                @Override
+                public Set<String> dependenciesOf(Object key) {
+                    return Set.of("task:" + key);
+                }
+            }), new LongAdder());
+
+    @Test
+    void storedKeysAreEvictedByTheirTags() {
+        cache.put(1L, "task");
+
+        assertThat(cache.evictDependents(Set.of("task:1"))).isEqualTo(1);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void aSynchronizedLoadOverlappingAnEvictionIsNotKept() {
+        cache.get(1L, () -> {
+            cache.evictDependents(Set.of("task:1"));
+            return "stale";
+        });
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.getIndex().size()).isZero();
+    }
+
+    @Test
+    void aPutAfterAMissIsDroppedIfTheKeyWasEvictedMeanwhile() {
+        assertThat(cache.get(1L)).isNull();
+        cache.evictDependents(Set.of("task:1"));
+        cache.put(1L, "stale");
+
+        assertThat(cache.get(1L)).isNull();
+
+        cache.put(1L, "fresh");
+        cache.evictDependents(Set.of("task:2"));
+
+        assertThat(cache.get(1L)).isNotNull();
+    }
+}
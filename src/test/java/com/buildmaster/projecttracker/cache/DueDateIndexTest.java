@@ -0,0 +1,59 @@
+package com.buildmaster.projecttracker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DueDateIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    void itemsBecomeOverdueWhenTheWheelPassesTheirDueDate() {
+        DueDateIndex<String> index = new DueDateIndex<>(TODAY);
+        index.put(1L, TODAY.minusDays(1), "late");
+        index.put(2L, TODAY, "due today");
+        index.put(3L, TODAY.plusDays(2), "later");
+
+        assertThat(index.overdue()).containsExactly("late");
+
+        assertThat(index.advanceTo(TODAY.plusDays(1))).isEqualTo(1);
+        assertThat(index.overdue()).containsExactly("late", "due today");
+
+        index.advanceTo(TODAY.plusDays(5));
+        assertThat(index.overdue()).containsExactly("late", "due today", "later");
+    }
+
+    @Test
+    void movingOrRemovingAnItemTakesItOutOfItsOldSlot() {
+        DueDateIndex<String> index = new DueDateIndex<>(TODAY);
+        index.put(1L, TODAY.minusDays(3), "late");
+        index.put(1L, TODAY.plusDays(3), "rescheduled");
+        index.put(2L, TODAY.minusDays(1), "completed soon");
+        index.remove(2L);
+
+        assertThat(index.overdue()).isEmpty();
+        index.advanceTo(TODAY.plusDays(4));
+        assertThat(index.overdue()).containsExactly("rescheduled");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileTheSnapshotWasRead() {
+        DueDateIndex<String> index = new DueDateIndex<>(TODAY);
+        index.put(1L, TODAY.minusDays(1), "stale");
+
+        index.beginRebuild();
+        index.put(2L, TODAY.minusDays(2), "written during rebuild");
+        index.remove(3L);
+        int drift = index.completeRebuild(List.of(
+                new DueDateIndex.Entry<>(1L, TODAY.minusDays(1), "fresh"),
+                new DueDateIndex.Entry<>(3L, TODAY.minusDays(1), "deleted during rebuild")));
+
+        assertThat(index.overdue()).containsExactly("fresh", "written during rebuild");
+        assertThat(drift).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.buildmaster.projecttracker.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillIndexTest {
+
+    private final SkillIndex index = new SkillIndex();
+
+    private void developer(long id, String skills, long openTasks) {
+        index.put(new SkillIndex.Entry(id, SkillTags.parse(skills), openTasks));
+    }
+
+    private List<Long> match(String expression, int limit) {
+        return index.match(SkillExpression.parse(expression), limit).developers().stream()
+                .map(SkillIndex.Entry::id)
+                .toList();
+    }
+
+    @Test
+    void skillsAreSplitIntoNormalizedTags() {
+        assertThat(SkillTags.parse("Java, Spring  Boot;KAFKA")).containsExactly("java", "spring boot", "kafka");
+        assertThat(SkillTags.parse("java python  go")).containsExactly("java", "python", "go");
+        assertThat(SkillTags.parse(null)).isEmpty();
+    }
+
+    @Test
+    void booleanExpressionsAreRankedByOpenTasks() {
+        developer(1, "Java, Kafka, Spring Boot", 5);
+        developer(2, "Java, RabbitMQ", 1);
+        developer(3, "Java, Kafka, PHP", 0);
+        developer(4, "Python", 0);
+
+        assertThat(match("java AND kafka", 10)).containsExactly(3L, 1L);
+        assertThat(match("java (kafka OR rabbitmq) AND NOT php", 10)).containsExactly(2L, 1L);
+        assertThat(match("\"spring boot\" OR python", 10)).containsExactly(4L, 1L);
+        assertThat(match("java", 2)).containsExactly(3L, 2L);
+        assertThat(index.match(SkillExpression.parse("java"), 2).matched()).isEqualTo(3);
+    }
+
+    @Test
+    void updatesMoveDevelopersBetweenPostings() {
+        developer(1, "Java", 0);
+        developer(1, "Go", 0);
+        developer(2, "Java", 0);
+        index.remove(2L);
+
+        assertThat(match("java", 10)).isEmpty();
+        assertThat(match("go", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileTheSnapshotWasRead() {
+        developer(1, "Java", 0);
+        index.beginRebuild();
+        developer(2, "Java", 0);
+
+        int drift = index.completeRebuild(List.of(
+                new SkillIndex.Entry(1L, SkillTags.parse("Java"), 0),
+                new SkillIndex.Entry(3L, SkillTags.parse("Java"), 0)));
+
+        assertThat(match("java", 10)).containsExactly(1L, 2L, 3L);
+        assertThat(drift).isEqualTo(1);
+    }
+
+    @Test
+    void malformedExpressionsAreRejected() {
+        assertThatThrownBy(() -> SkillExpression.parse("java AND")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SkillExpression.parse("(java")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SkillExpression.parse("java )")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SkillExpression.parse(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
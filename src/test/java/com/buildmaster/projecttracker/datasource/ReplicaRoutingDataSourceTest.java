@@ -0,0 +1,200 @@
+package com.buildmaster.projecttracker.datasource;
+
+import com.buildmaster.projecttracker.config.ReplicaRoutingEnvironmentPostProcessor;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Wires the routing the same way DataSourceRoutingConfig does, with two in-memory H2 databases
+ * standing in for the primary and the replica. Each database answers {@code SELECT name FROM node}
+ * with its own name, so a query shows which one served it.
+ * <p>
+ * The JPA test lets every transaction open its own EntityManager, which is how requests run once routing
+ * has turned open-in-view off.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHO_ANSWERED = "SELECT name FROM node";
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    private ReadYourWritesTracker tracker;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void readOnlyTransactionsAreServedByTheReplica() {
+        route("SELECT 0");
+
+        assertThat(readOnly()).isEqualTo("replica");
+        assertThat(jdbcTemplate.queryForObject(WHO_ANSWERED, String.class)).isEqualTo("primary");
+        String writeAnswer = writeTransaction.execute(status -> jdbcTemplate.queryForObject(WHO_ANSWERED, String.class));
+        assertThat(writeAnswer).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        ReplicaRoutingDataSource router = route("SELECT 30");
+
+        assertThat(router.getReplicas().get(0).isHealthy()).isTrue();
+        assertThat(router.getReplicas().get(0).getLag()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(readOnly()).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() {
+        ReplicaRoutingDataSource router = route("SELECT missing_column FROM node");
+
+        assertThat(router.getReplicas().get(0).isHealthy()).isFalse();
+        assertThat(readOnly()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsFollowingACommittedWriteStayOnThePrimary() {
+        route("SELECT 0");
+
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE node SET touched = touched + 1"));
+
+        assertThat(readOnly()).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT touched FROM node", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReads() {
+        route("SELECT 0");
+
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly()).isEqualTo("replica");
+    }
+
+    @Test
+    void jpaWritesAfterAReadOnlyTransactionGoToThePrimary() {
+        route("SELECT 0");
+        EntityManagerFactory entityManagerFactory = entityManagerFactory();
+        try {
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            transactionManager.addListener(tracker);
+            TransactionTemplate jpaWrite = new TransactionTemplate(transactionManager);
+            TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+            jpaReadOnly.setReadOnly(true);
+            EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+            String readAnswer = jpaReadOnly.execute(status -> whoAnswered(entityManager));
+            String writeAnswer = jpaWrite.execute(status -> {
+                entityManager.createQuery("UPDATE Node n SET n.touched = n.touched + 1").executeUpdate();
+                return whoAnswered(entityManager);
+            });
+
+            assertThat(readAnswer).isEqualTo("replica");
+            assertThat(writeAnswer).isEqualTo("primary");
+        } finally {
+            entityManagerFactory.close();
+        }
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT touched FROM node", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void routingTurnsOffOpenInView() {
+        MockEnvironment routed = new MockEnvironment()
+                .withProperty("app.datasource.routing.enabled", "true")
+                .withProperty("spring.jpa.open-in-view", "true");
+        MockEnvironment direct = new MockEnvironment();
+
+        new ReplicaRoutingEnvironmentPostProcessor().postProcessEnvironment(routed, new SpringApplication());
+        new ReplicaRoutingEnvironmentPostProcessor().postProcessEnvironment(direct, new SpringApplication());
+
+        assertThat(routed.getProperty("spring.jpa.open-in-view")).isEqualTo("false");
+        assertThat(direct.getProperty("spring.jpa.open-in-view")).isNull();
+    }
+
+    private ReplicaRoutingDataSource route(String lagQuery) {
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(primary,
+                List.of(new ReplicaRoutingDataSource.Replica("replica", replica)), tracker,
+                Duration.ofSeconds(5), lagQuery);
+        router.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(router);
+        this.dataSource = dataSource;
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(tracker);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return router;
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHO_ANSWERED, String.class));
+    }
+
+    private EntityManagerFactory entityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan(Node.class.getPackageName());
+        factory.setPersistenceUnitPostProcessors(unit -> unit.addManagedClassName(Node.class.getName()));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static String whoAnswered(EntityManager session) {
+        return session.createQuery("SELECT n.name FROM Node n", String.class).getSingleResult();
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), touched INT)");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+
+    @Entity(name = "Node")
+    @Table(name = "node")
+    static class Node {
+
+        @Id
+        private String name;
+
+        private int touched;
+    }
+}
@@ -0,0 +1,135 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives and restores a completed project against the migrated PostgreSQL schema, checking that
+ * the rows move with their ids and that archived rows read back as the usual read models.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ArchiveRepository.class)
+class ArchiveRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long oldProjectId;
+    private Long developerId;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("DELETE FROM tasks_archive; DELETE FROM projects_archive; DELETE FROM tasks; "
+                + "DELETE FROM projects; DELETE FROM developers");
+        developerId = jdbcTemplate.queryForObject("INSERT INTO developers (name, email, skills, created_at, updated_at) "
+                + "VALUES ('Ada', 'ada@example.com', 'java', now(), now()) RETURNING id", Long.class);
+        oldProjectId = project("COMPLETED", "now() - interval '1 year'");
+        project("COMPLETED", "now()");
+        project("IN_PROGRESS", "now() - interval '1 year'");
+        jdbcTemplate.update("INSERT INTO tasks (id, title, status, created_at, project_id, developer_id) "
+                + "SELECT nextval('tasks_seq'), 'Task ' || i, CASE WHEN i = 1 THEN 'TODO' ELSE 'COMPLETED' END, now(), ?, "
+                + "CASE WHEN i < 3 THEN ? END FROM generate_series(1, 3) i", oldProjectId, developerId);
+    }
+
+    @Test
+    void onlyCompletedProjectsPastTheCutoffAreArchivable() {
+        List<Long> ids = transactionTemplate.execute(status ->
+                archiveRepository.findArchivableProjectIds(LocalDateTime.now().minusMonths(6), 10));
+
+        assertThat(ids).containsExactly(oldProjectId);
+    }
+
+    @Test
+    void archiveAndRestoreMoveTheProjectWithItsTasks() {
+        List<Long> live = jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class);
+
+        List<Long> archived = transactionTemplate.execute(status ->
+                archiveRepository.archive(List.of(oldProjectId), LocalDateTime.now()));
+
+        assertThat(archived).containsExactlyInAnyOrderElementsOf(live);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isZero();
+        assertThat(archiveRepository.isArchived(oldProjectId)).isTrue();
+        assertThat(archiveRepository.findProject(oldProjectId)).get()
+                .satisfies(project -> assertThat(project.status()).isEqualTo(ProjectStatus.COMPLETED));
+        assertThat(archiveRepository.countAssignedTasks(List.of(oldProjectId), true)).containsExactlyInAnyOrder(
+                new ArchiveRepository.AssignedTasks(developerId, TaskStatus.TODO, 1),
+                new ArchiveRepository.AssignedTasks(developerId, TaskStatus.COMPLETED, 1));
+        Page<TaskView> tasks = archiveRepository.findTasksByProjectId(oldProjectId, PageRequest.of(0, 2));
+        assertThat(tasks.getTotalElements()).isEqualTo(3);
+        assertThat(tasks.getContent()).extracting(TaskView::developerName).containsExactly("Ada", "Ada");
+        assertThat(archiveRepository.findProjectsByStatusIncludingArchived(ProjectStatus.COMPLETED, PageRequest.of(0, 10))
+                .getTotalElements()).isEqualTo(2);
+
+        Optional<List<Long>> restored = transactionTemplate.execute(status -> archiveRepository.restore(oldProjectId));
+
+        assertThat(restored).get().asList().containsExactlyInAnyOrderElementsOf(live);
+        assertThat(archiveRepository.isArchived(oldProjectId)).isFalse();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class)).isEqualTo(live);
+    }
+
+    @Test
+    void aRestoredProjectIsNotArchivableUntilTheCutoffPassesAgain() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(6);
+        transactionTemplate.executeWithoutResult(status ->
+                archiveRepository.archive(archiveRepository.findArchivableProjectIds(cutoff, 10), LocalDateTime.now()));
+
+        transactionTemplate.executeWithoutResult(status -> archiveRepository.restore(oldProjectId));
+        List<Long> ids = transactionTemplate.execute(status -> archiveRepository.findArchivableProjectIds(cutoff, 10));
+
+        assertThat(ids).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT created_at < now() - interval '6 months' FROM projects "
+                + "WHERE id = ?", Boolean.class, oldProjectId)).isTrue();
+    }
+
+    @Test
+    void restoringAProjectThatIsNotArchivedFindsNothing() {
+        Optional<List<Long>> restored = transactionTemplate.execute(status -> archiveRepository.restore(oldProjectId));
+
+        assertThat(restored).isEmpty();
+    }
+
+    private Long project(String status, String changedAt) {
+        return jdbcTemplate.queryForObject("INSERT INTO projects (name, deadline, status, created_at, updated_at) "
+                + "VALUES ('Project', current_date, ?, " + changedAt + ", " + changedAt + ") RETURNING id",
+                Long.class, status);
+    }
+}
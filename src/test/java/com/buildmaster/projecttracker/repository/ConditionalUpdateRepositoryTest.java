@@ -0,0 +1,124 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.dto.DeveloperView;
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.repository.ConditionalUpdateRepository.Updated;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the PATCH updates against the migrated PostgreSQL schema, checking that each update returns
+ * exactly the value it overwrote, also when unconditional updates race.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ConditionalUpdateRepository.class)
+class ConditionalUpdateRepositoryTest {
+
+    private static final int WRITERS = 8;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ConditionalUpdateRepository conditionalUpdateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long developerId;
+    private Long projectId;
+
+    @BeforeEach
+    void seed() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("DELETE FROM developer_roles; DELETE FROM tasks; DELETE FROM projects; "
+                + "DELETE FROM developers");
+        developerId = jdbcTemplate.queryForObject("INSERT INTO developers (name, email, skills, created_at, updated_at) "
+                + "VALUES ('Ada', 'ada@example.com', 'initial', now(), now()) RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO roles (name, created_at) SELECT 'ROLE_DEVELOPER', now() "
+                + "WHERE NOT EXISTS (SELECT 1 FROM roles WHERE name = 'ROLE_DEVELOPER')");
+        jdbcTemplate.update("INSERT INTO developer_roles (developer_id, role_id) "
+                + "SELECT ?, id FROM roles WHERE name = 'ROLE_DEVELOPER'", developerId);
+        projectId = jdbcTemplate.queryForObject("INSERT INTO projects (name, status, created_at, updated_at) "
+                + "VALUES ('Project', 'PLANNING', now(), now()) RETURNING id", Long.class);
+    }
+
+    @Test
+    void racingUnconditionalUpdatesAllApplyAndEachReturnsTheValueItReplaced() throws Exception {
+        List<Updated<DeveloperView, String>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<Optional<Updated<DeveloperView, String>>>> futures = IntStream.range(0, WRITERS)
+                    .mapToObj(writer -> executor.submit(() -> transactionTemplate.execute(status ->
+                            conditionalUpdateRepository.updateDeveloperSkills(developerId, "skills " + writer, null,
+                                    LocalDateTime.now()))))
+                    .toList();
+            for (Future<Optional<Updated<DeveloperView, String>>> future : futures) {
+                results.add(future.get().orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<String> replaced = new ArrayList<>(results.stream().map(Updated::previous).toList());
+        List<String> written = new ArrayList<>(results.stream().map(result -> result.row().skills()).toList());
+        String last = jdbcTemplate.queryForObject("SELECT skills FROM developers WHERE id = ?", String.class, developerId);
+        replaced.remove("initial");
+        written.remove(last);
+        assertThat(replaced).containsExactlyInAnyOrderElementsOf(written);
+        assertThat(results).extracting(result -> result.row().version())
+                .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, WRITERS).mapToObj(Long::valueOf).toList());
+        assertThat(results.get(0).row().roles()).containsExactly("ROLE_DEVELOPER");
+    }
+
+    @Test
+    void staleExpectedVersionChangesNothing() {
+        Optional<Updated<ProjectView, ProjectStatus>> current = transactionTemplate.execute(status ->
+                conditionalUpdateRepository.updateProjectStatus(projectId, ProjectStatus.IN_PROGRESS, 0L,
+                        LocalDateTime.now()));
+        Optional<Updated<ProjectView, ProjectStatus>> stale = transactionTemplate.execute(status ->
+                conditionalUpdateRepository.updateProjectStatus(projectId, ProjectStatus.ON_HOLD, 0L, LocalDateTime.now()));
+
+        assertThat(current).get().satisfies(updated -> {
+            assertThat(updated.previous()).isEqualTo(ProjectStatus.PLANNING);
+            assertThat(updated.row().status()).isEqualTo(ProjectStatus.IN_PROGRESS);
+            assertThat(updated.row().version()).isEqualTo(1L);
+        });
+        assertThat(stale).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM projects WHERE id = ?", String.class, projectId))
+                .isEqualTo("IN_PROGRESS");
+    }
+}
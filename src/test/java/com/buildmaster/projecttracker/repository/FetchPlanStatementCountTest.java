@@ -0,0 +1,154 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.dto.DeveloperView;
+import com.buildmaster.projecttracker.dto.ProjectSummary;
+import com.buildmaster.projecttracker.dto.ProjectView;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.entity.Developer;
+import com.buildmaster.projecttracker.entity.Project;
+import com.buildmaster.projecttracker.entity.Role;
+import com.buildmaster.projecttracker.entity.Task;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.mapper.DeveloperViewMapper;
+import com.buildmaster.projecttracker.mapper.ProjectSummaryMapper;
+import com.buildmaster.projecttracker.mapper.ProjectViewMapper;
+import com.buildmaster.projecttracker.mapper.TaskViewMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts that each listing shape runs a fixed number of SQL statements regardless of page size.
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class FetchPlanStatementCountTest {
+
+    private static final int ROWS = 30;
+    private static final PageRequest PAGE = PageRequest.of(0, 20, Sort.by("id"));
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    private Statistics statistics;
+    private Long projectId;
+    private Long developerId;
+
+    @BeforeEach
+    void seed() {
+        Role role = entityManager.persist(new Role(Role.ROLE_DEVELOPER, "Developer"));
+        for (int i = 0; i < ROWS; i++) {
+            Project project = entityManager.persist(new Project("Project " + i, null, LocalDate.now().plusDays(i)));
+            Developer developer = new Developer("Developer " + i, "dev" + i + "@example.com", "java");
+            developer.setRoles(Set.of(role));
+            entityManager.persist(developer);
+            Task task = new Task("Task " + i, null, LocalDate.now().minusDays(1), project);
+            task.setStatus(TaskStatus.TODO);
+            task.setDeveloper(developer);
+            entityManager.persist(task);
+            projectId = project.getId();
+            developerId = developer.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskPageRunsOnePageAndOneCountStatement() {
+        Page<TaskView> page = taskRepository.findAllViews(PAGE);
+
+        assertThat(page.getContent()).hasSize(20).allSatisfy(view -> assertThat(view.developerName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void taskPagesByProjectAndDeveloperRunOneStatementEach() {
+        taskRepository.findViewsByProjectId(projectId, PAGE);
+        taskRepository.findViewsByDeveloperId(developerId, PAGE);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void overdueTasksRunOneStatement() {
+        List<TaskView> overdue = taskRepository.findOverdueViews(LocalDate.now());
+
+        assertThat(overdue).hasSize(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskScrollFetchesOwnersWithTheWindow() {
+        Window<Task> window = taskRepository.findAllBy(ScrollPosition.keyset(), Sort.by("id"), Limit.of(20));
+        List<TaskView> views = window.map(TaskViewMapper::toView).getContent();
+
+        assertThat(views).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void projectPageDoesNotTouchTasks() {
+        Page<ProjectView> page = projectRepository.findAll(PAGE).map(ProjectViewMapper::toView);
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void projectSummaryRunsOneStatement() {
+        ProjectSummary summary = ProjectSummaryMapper.toSummary(projectRepository.summarize(projectId, LocalDate.now()));
+
+        assertThat(summary.totalTasks()).isEqualTo(1);
+        assertThat(summary.byStatus()).containsEntry(TaskStatus.TODO, 1L);
+        assertThat(summary.overdue()).isEqualTo(1);
+        assertThat(summary.assigned()).isEqualTo(1);
+        assertThat(summary.developers()).singleElement().satisfies(developer -> assertThat(developer.id()).isEqualTo(developerId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void developerPageBatchesRolesAndSkipsTasksAndUsers() {
+        Page<DeveloperView> page = developerRepository.findAll(PAGE).map(DeveloperViewMapper::toView);
+
+        assertThat(page.getContent()).hasSize(20).allSatisfy(view -> assertThat(view.roles()).containsExactly(Role.ROLE_DEVELOPER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
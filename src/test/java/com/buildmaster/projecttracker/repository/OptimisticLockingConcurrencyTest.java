@@ -0,0 +1,160 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.entity.Developer;
+import com.buildmaster.projecttracker.entity.Project;
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Races writers against the same project or developer, each in its own transaction, and checks that
+ * the version column lets exactly one writer win per version and that no update is lost. The conditional
+ * updates are PostgreSQL statements, so the races run against the migrated schema.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ConditionalUpdateRepository.class)
+class OptimisticLockingConcurrencyTest {
+
+    private static final int WRITERS = 8;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ConditionalUpdateRepository conditionalUpdateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newFixedThreadPool(WRITERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        transactionTemplate.executeWithoutResult(status -> {
+            projectRepository.deleteAllInBatch();
+            developerRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void onlyOneConditionalUpdatePerVersionSucceeds() throws Exception {
+        Project project = projectRepository.save(new Project("Apollo", null, LocalDate.now().plusDays(30)));
+        Long version = project.getVersion();
+
+        List<Boolean> updated = race(writer -> transactionTemplate.execute(status ->
+                conditionalUpdateRepository.updateProjectStatus(project.getId(),
+                        ProjectStatus.values()[writer % ProjectStatus.values().length], version, LocalDateTime.now())
+                        .isPresent()));
+
+        assertThat(updated).containsOnly(false, true).filteredOn(applied -> applied).hasSize(1);
+        assertThat(projectRepository.findVersionById(project.getId())).contains(version + 1);
+    }
+
+    @Test
+    void retriedConditionalUpdatesLoseNoWrites() throws Exception {
+        Developer developer = developerRepository.save(new Developer("Ada", "ada@example.com", "java"));
+
+        race(writer -> {
+            while (true) {
+                Developer current = developerRepository.findById(developer.getId()).orElseThrow();
+                boolean applied = transactionTemplate.execute(status -> conditionalUpdateRepository.updateDeveloperSkills(
+                        current.getId(), current.getSkills() + ",skill" + writer, current.getVersion(),
+                        LocalDateTime.now()).isPresent());
+                if (applied) {
+                    return true;
+                }
+            }
+        });
+
+        Developer result = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(Arrays.asList(result.getSkills().split(","))).hasSize(WRITERS + 1);
+        assertThat(result.getVersion()).isEqualTo(developer.getVersion() + WRITERS);
+    }
+
+    @Test
+    void savingAStaleCopyFails() {
+        Project project = projectRepository.save(new Project("Gemini", null, LocalDate.now().plusDays(30)));
+        Project stale = projectRepository.findById(project.getId()).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status ->
+                conditionalUpdateRepository.updateProjectStatus(project.getId(), ProjectStatus.ON_HOLD, null,
+                        LocalDateTime.now()));
+
+        stale.setName("Gemini II");
+        assertThatThrownBy(() -> projectRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(projectRepository.findById(project.getId()).orElseThrow().getName()).isEqualTo("Gemini");
+    }
+
+    /**
+     * Starts every writer at once and waits for all of them.
+     */
+    private <T> List<T> race(Writer<T> writer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            int id = i;
+            Callable<T> task = () -> {
+                start.await();
+                return writer.write(id);
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private interface Writer<T> {
+        T write(int writer) throws Exception;
+    }
+}
@@ -0,0 +1,176 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.enums.ProjectStatus;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL behind each TaskRepository, ProjectRepository and DeveloperRepository query against the
+ * migrated schema and a seeded dataset, and fails if the queried table is read with a sequential scan.
+ * Whole-table aggregates (status counts, unfiltered page counts) are left out: they scan by design.
+ * Each query runs in its own transaction, which the locking reads require.
+ */
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.buildmaster.projecttracker.repository.CapturingStatementInspector")
+class QueryPlanIndexUsageTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final PageRequest BY_ID = PageRequest.of(0, 20, Sort.by("id"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    private static boolean seeded;
+
+    @BeforeEach
+    void seedOnce() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.execute("""
+                INSERT INTO developers (name, email, skills, created_at, updated_at)
+                SELECT 'Developer ' || i, 'dev' || i || '@example.com', 'java', now(), now()
+                FROM generate_series(1, 2000) i""");
+        jdbcTemplate.execute("""
+                INSERT INTO projects (name, deadline, status, created_at, updated_at, task_count)
+                SELECT 'Project ' || i, current_date + (i % 1000) - 100,
+                       CASE i % 20 WHEN 0 THEN 'PLANNING' WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'ON_HOLD' ELSE 'COMPLETED' END,
+                       now(), now(), CASE WHEN i % 100 = 0 THEN 0 ELSE 10 END
+                FROM generate_series(1, 20000) i""");
+        jdbcTemplate.execute("""
+                INSERT INTO tasks (id, title, status, due_date, created_at, updated_at, project_id, developer_id)
+                SELECT nextval('tasks_seq'), 'Task ' || i,
+                       CASE i % 100 WHEN 0 THEN 'TODO' WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'IN_REVIEW'
+                                    WHEN 3 THEN 'BLOCKED' WHEN 4 THEN 'TODO' ELSE 'COMPLETED' END,
+                       current_date + (i % 1000) - 100, now(), now(), 1 + i % 20000, 1 + i % 2000
+                FROM generate_series(1, 200000) i""");
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                query("tasks", "findViewsByProjectId", r -> r.tasks().findViewsByProjectId(42L, BY_ID), 42L, 20),
+                query("tasks", "findByProjectId", r -> r.tasks().findByProjectId(42L, BY_ID), 42L, 20),
+                query("tasks", "findViewsByDeveloperId", r -> r.tasks().findViewsByDeveloperId(42L, BY_ID), 42L, 20),
+                query("tasks", "findByDeveloperId", r -> r.tasks().findByDeveloperId(42L, BY_ID), 42L, 20),
+                query("tasks", "findByStatus", r -> r.tasks().findByStatus(TaskStatus.TODO, BY_ID), TaskStatus.TODO, 20),
+                query("tasks", "findOverdueViews", r -> r.tasks().findOverdueViews(TODAY), TODAY),
+                query("tasks", "findOverdueTasks", r -> r.tasks().findOverdueTasks(TODAY), TODAY),
+                query("tasks", "findByProjectIdAndStatus",
+                        r -> r.tasks().findByProjectIdAndStatus(42L, TaskStatus.TODO), 42L, TaskStatus.TODO),
+                query("tasks", "countByDeveloperAndStatusForProject",
+                        r -> r.tasks().countByDeveloperAndStatusForProject(42L), 42L),
+                query("tasks", "lockOwnerIdsByIdIn", r -> r.tasks().lockOwnerIdsByIdIn(List.of(1L, 2L, 3L)), 1L, 2L, 3L),
+                query("projects", "findByStatus",
+                        r -> r.projects().findByStatus(ProjectStatus.PLANNING, BY_ID), ProjectStatus.PLANNING, 20),
+                query("projects", "findByDeadlineBetween",
+                        r -> r.projects().findByDeadlineBetween(TODAY, TODAY.plusDays(30), PageRequest.of(0, 20, Sort.by("deadline"))),
+                        TODAY, TODAY.plusDays(30), 20),
+                query("projects", "findProjectsWithoutTasks", r -> r.projects().findProjectsWithoutTasks()),
+                query("projects", "findOverdueProjects", r -> r.projects().findOverdueProjects(TODAY), TODAY),
+                query("projects", "findExistingIds", r -> r.projects().findExistingIds(Set.of(1L, 2L, 3L)), 1L, 2L, 3L),
+                query("developers", "search",
+                        r -> r.developers().search("developr 42", PageRequest.of(0, 20)), "developr 42", "developr 42", 21));
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("queries")
+    void queryUsesAnIndexOnItsTable(String table, String name, Consumer<Repositories> call, List<Object> parameters) {
+        CapturingStatementInspector.drain();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                call.accept(new Repositories(taskRepository, projectRepository, developerRepository)));
+        List<String> statements = CapturingStatementInspector.drain();
+        assertThat(statements).as("SQL issued by %s", name).isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql, parameters);
+            assertThat(plan)
+                    .as("plan for %s:%n%s%n%s", name, sql, plan)
+                    .doesNotContain("Seq Scan on " + table);
+        }
+    }
+
+    /**
+     * Inlines the parameters as literals and returns the plan text. Page and count queries share a
+     * parameter prefix, because Hibernate appends the limit after the WHERE parameters.
+     */
+    private String explain(String sql, List<Object> parameters) {
+        StringBuilder inlined = new StringBuilder();
+        int next = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                inlined.append(literal(parameters.get(next++)));
+            } else {
+                inlined.append(c);
+            }
+        }
+        return jdbcTemplate.queryForList("EXPLAIN " + inlined, String.class).stream()
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        if (value instanceof LocalDate date) {
+            return "DATE '" + date + "'";
+        }
+        return "'" + value.toString().replace("'", "''") + "'";
+    }
+
+    private static Arguments query(String table, String name, Consumer<Repositories> call, Object... parameters) {
+        return Arguments.of(table, name, call, List.of(parameters));
+    }
+
+    record Repositories(TaskRepository tasks, ProjectRepository projects, DeveloperRepository developers) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.buildmaster.projecttracker.repository;
+
+import com.buildmaster.projecttracker.entity.Project;
+import com.buildmaster.projecttracker.entity.Task;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that reading a task's previous owners for a counter delta waits for a concurrent update of the
+ * same task, so both updates subtract from the status the other left rather than from the same one.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class TaskOwnerLockTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            projectRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void aSecondReaderSeesTheStatusTheFirstWriterLeft() throws Exception {
+        Project project = projectRepository.save(new Project("Apollo", null, LocalDate.now().plusDays(30)));
+        Long taskId = taskRepository.save(new Task("Unassigned", null, null, project)).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch locked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> firstWriter = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                assertThat(taskRepository.lockOwnerIdsById(taskId)).isPresent();
+                locked.countDown();
+                sleep();
+                Task task = taskRepository.findById(taskId).orElseThrow();
+                task.setStatus(TaskStatus.IN_PROGRESS);
+            }));
+            locked.await();
+
+            TaskRepository.TaskOwnerIds owners = transactionTemplate.execute(status ->
+                    taskRepository.lockOwnerIdsById(taskId).orElseThrow());
+
+            firstWriter.get();
+            assertThat(owners.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(owners.getProjectId()).isEqualTo(project.getId());
+            assertThat(owners.getDeveloperId()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.audit.AuditLog;
+import com.buildmaster.projecttracker.dto.AuditLogFilter;
+import com.buildmaster.projecttracker.dto.AuditSnapshot;
+import com.buildmaster.projecttracker.dto.CursorPage;
+import com.buildmaster.projecttracker.util.KeysetCursor;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final AuditService auditService = new AuditService(mongoTemplate);
+    private final AuditLogFilter taskUpdates = new AuditLogFilter("Task", null, "UPDATE", null, null, null, null, null);
+
+    @Test
+    void fetchesOneExtraRowToDecideWhetherAnotherSliceFollows() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class)))
+                .thenReturn(List.of(log("c", now), log("b", now), log("a", now.minusSeconds(1))));
+
+        CursorPage<AuditLog> page = auditService.search(taskUpdates, ScrollPosition.keyset(), 2);
+
+        assertThat(page.content()).extracting(AuditLog::getId).containsExactly("c", "b");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isNull();
+        assertThat(KeysetCursor.decode(page.nextCursor(), AuditService.SEEK_KEYS))
+                .isEqualTo(ScrollPosition.forward(Map.of("timestamp", now, "id", "b")));
+    }
+
+    @Test
+    void nextSliceSeeksPastTheCursorNewestFirst() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of());
+
+        CursorPage<AuditLog> page = auditService.search(taskUpdates,
+                ScrollPosition.forward(Map.of("timestamp", now, "id", "b")), 2);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(AuditLog.class));
+        assertThat(query.getValue().getSortObject()).isEqualTo(new Document("timestamp", -1).append("id", -1));
+        assertThat(query.getValue().getLimit()).isEqualTo(3);
+        assertThat(query.getValue().getQueryObject().getList("$and", Document.class))
+                .containsExactly(new Document("entityType", "Task"), new Document("actionType", "UPDATE"),
+                        new Document("$or", List.of(
+                                new Document("timestamp", new Document("$lt", now)),
+                                new Document("timestamp", now).append("id", new Document("$lt", "b")))));
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void snapshotsAreRebuiltByApplyingDiffsToTheCreatedState() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        Map<String, String> created = new HashMap<>(Map.of("id", "7", "title", "Write docs", "status", "TODO",
+                "developerId", "1", "developerName", "Ada"));
+        Map<String, String> statusChange = new HashMap<>(Map.of("status.before", "TODO", "status.after", "IN_PROGRESS"));
+        Map<String, String> reassignment = new HashMap<>(Map.of("developerId.before", "1", "developerId.after", "2"));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of(
+                log("a", "CREATE", now, created),
+                log("b", "UPDATE", now.plusMinutes(1), statusChange),
+                log("c", "UPDATE", now.plusMinutes(2), reassignment)));
+
+        List<AuditSnapshot> snapshots = auditService.reconstruct("Task", "7", null);
+
+        assertThat(snapshots).extracting(AuditSnapshot::auditLogId).containsExactly("a", "b", "c");
+        assertThat(snapshots.get(1).state()).containsEntry("status", "IN_PROGRESS").containsEntry("title", "Write docs");
+        assertThat(snapshots.get(2).state())
+                .containsEntry("status", "IN_PROGRESS")
+                .containsEntry("developerId", "2")
+                .doesNotContainKey("developerName");
+    }
+
+    @Test
+    void partialUpdatesAreMergedAndFullUpdatesReplaceTheState() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+        Map<String, String> created = new HashMap<>(Map.of("id", "7", "title", "Write docs", "status", "TODO"));
+        Map<String, String> assignment = new HashMap<>(Map.of("assignedDeveloper", "Ada"));
+        Map<String, String> legacyUpdate = new HashMap<>(Map.of("id", "7", "title", "Write more docs", "status", "DONE"));
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of(
+                log("a", "CREATE", now, created),
+                log("b", "UPDATE", now.plusMinutes(1), assignment),
+                log("c", "UPDATE", now.plusMinutes(2), legacyUpdate)));
+
+        List<AuditSnapshot> snapshots = auditService.reconstruct("Task", "7", null);
+
+        assertThat(snapshots.get(1).state())
+                .containsEntry("title", "Write docs")
+                .containsEntry("status", "TODO")
+                .containsEntry("assignedDeveloper", "Ada");
+        assertThat(snapshots.get(2).state()).isEqualTo(legacyUpdate);
+    }
+
+    private static AuditLog log(String id, String actionType, LocalDateTime timestamp, Map<String, String> payload) {
+        AuditLog auditLog = new AuditLog(actionType, "Task", "7", "system", payload);
+        auditLog.setId(id);
+        auditLog.setTimestamp(timestamp);
+        return auditLog;
+    }
+
+    private static AuditLog log(String id, LocalDateTime timestamp) {
+        AuditLog auditLog = new AuditLog("UPDATE", "Task", id, "system", Map.of());
+        auditLog.setId(id);
+        auditLog.setTimestamp(timestamp);
+        return auditLog;
+    }
+}
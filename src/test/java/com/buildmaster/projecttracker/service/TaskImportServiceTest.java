@@ -0,0 +1,149 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.audit.AuditWriter;
+import com.buildmaster.projecttracker.cache.OverdueTracker;
+import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+import com.buildmaster.projecttracker.dto.BulkImportResult;
+import com.buildmaster.projecttracker.dto.BulkImportResult.RowError;
+import com.buildmaster.projecttracker.dto.TaskImportRequest;
+import com.buildmaster.projecttracker.entity.Developer;
+import com.buildmaster.projecttracker.entity.Project;
+import com.buildmaster.projecttracker.entity.Task;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import com.buildmaster.projecttracker.repository.ProjectRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskImportServiceTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final DeveloperRepository developerRepository = mock(DeveloperRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final TaskImportService importService = new TaskImportService(taskRepository, projectRepository,
+            developerRepository, mock(AuditWriter.class), mock(TaskCacheInvalidator.class),
+            mock(TaskCounterService.class), mock(OverdueTracker.class), entityManager,
+            Validation.buildDefaultValidatorFactory().getValidator(), mock(PlatformTransactionManager.class));
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicBoolean duplicatePending = new AtomicBoolean();
+
+    @BeforeEach
+    void stubRepositories() {
+        ReflectionTestUtils.setField(importService, "chunkSize", 10);
+        ReflectionTestUtils.setField(importService, "maxErrors", 2);
+        when(projectRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+        when(developerRepository.findExistingIds(anyCollection())).thenReturn(Set.of(2L));
+        when(projectRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Project project = new Project();
+            project.setId(invocation.getArgument(0));
+            return project;
+        });
+        when(developerRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Developer developer = new Developer();
+            developer.setId(invocation.getArgument(0));
+            return developer;
+        });
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            duplicatePending.set(tasks.stream().anyMatch(task -> task.getTitle().equals("duplicate")));
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+        doAnswer(invocation -> {
+            if (duplicatePending.getAndSet(false)) {
+                throw new ConstraintViolationException("could not execute batch", new SQLException("duplicate key"),
+                        "tasks_title_key");
+            }
+            return null;
+        }).when(entityManager).flush();
+    }
+
+    @Test
+    void unreadableAndInvalidRowsAreReportedWithoutStoppingTheImport() throws IOException {
+        BulkImportResult result = importService.importTasks(rows("""
+                {"title": "first", "projectId": 1}
+                {"title": "bad project id", "projectId": "abc"}
+                {"title": "", "projectId": 1}
+                {"title": "last", "projectId": 1, "developerId": 2}
+                """));
+
+        assertThat(result.received()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.errors()).extracting(RowError::row).containsExactly(2, 3);
+        assertThat(result.errors().get(0).message()).startsWith("Unreadable row: ").doesNotContain("line:");
+        assertThat(result.errors().get(1).message()).isEqualTo("title: Task title is required");
+    }
+
+    @Test
+    void rowsReferencingUnknownProjectsOrDevelopersAreRejected() throws IOException {
+        BulkImportResult result = importService.importTasks(rows("""
+                {"title": "known", "projectId": 1, "developerId": 2}
+                {"title": "unknown project", "projectId": 9}
+                {"title": "unknown developer", "projectId": 1, "developerId": 8}
+                """));
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly(
+                new RowError(2, "Project not found: 9"),
+                new RowError(3, "Developer not found: 8"));
+        verify(projectRepository, times(1)).findExistingIds(Set.of(1L, 9L));
+        verify(developerRepository, times(1)).findExistingIds(Set.of(2L, 8L));
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRowToFindTheBadRow() throws IOException {
+        BulkImportResult result = importService.importTasks(rows("""
+                {"title": "first", "projectId": 1}
+                {"title": "duplicate", "projectId": 1}
+                {"title": "third", "projectId": 1}
+                """));
+
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(new RowError(2, "duplicate key"));
+        verify(taskRepository, times(4)).saveAll(anyList());
+        verify(entityManager, times(4)).flush();
+    }
+
+    @Test
+    void rejectedRowsBeyondTheLimitAreCountedButNotListed() throws IOException {
+        BulkImportResult result = importService.importTasks(rows("""
+                {"title": "", "projectId": 1}
+                {"title": "", "projectId": 1}
+                {"title": "kept", "projectId": 1}
+                {"title": "unknown project", "projectId": 9}
+                """));
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.errors()).extracting(RowError::row).containsExactly(1, 2);
+    }
+
+    private static MappingIterator<TaskImportRequest> rows(String ndjson) throws IOException {
+        return new ObjectMapper().findAndRegisterModules().readerFor(TaskImportRequest.class).readValues(ndjson);
+    }
+}
@@ -0,0 +1,133 @@
+package com.buildmaster.projecttracker.service;
+
+import com.buildmaster.projecttracker.audit.AuditDiff;
+import com.buildmaster.projecttracker.audit.AuditWriter;
+import com.buildmaster.projecttracker.cache.OverdueTracker;
+import com.buildmaster.projecttracker.cache.TaskCacheDependencies;
+import com.buildmaster.projecttracker.cache.TaskCacheInvalidator;
+import com.buildmaster.projecttracker.cache.TaskCacheKey;
+import com.buildmaster.projecttracker.config.CacheConfig;
+import com.buildmaster.projecttracker.dto.TaskView;
+import com.buildmaster.projecttracker.enums.TaskStatus;
+import com.buildmaster.projecttracker.repository.DeveloperRepository;
+import com.buildmaster.projecttracker.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, TaskCacheDependencies.class, TaskCacheInvalidator.class, TaskService.class})
+class TaskServiceCacheTest {
+
+    @MockitoBean
+    private TaskRepository taskRepository;
+
+    @MockitoBean
+    private DeveloperRepository developerRepository;
+
+    @MockitoBean
+    private AuditWriter auditWriter;
+
+    @MockitoBean
+    private AuditDiff auditDiff;
+
+    @MockitoBean
+    private TaskCounterService taskCounterService;
+
+    @MockitoBean
+    private OverdueTracker overdueTracker;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    @Test
+    void projectAndDeveloperQueriesWithSameIdReturnTheirOwnResults() {
+        Page<TaskView> projectPage = new PageImpl<>(List.of(view(1L, "project task")));
+        Page<TaskView> developerPage = new PageImpl<>(List.of(view(2L, "developer task")));
+        when(taskRepository.findViewsByProjectId(5L, pageable)).thenReturn(projectPage);
+        when(taskRepository.findViewsByDeveloperId(5L, pageable)).thenReturn(developerPage);
+
+        Page<TaskView> byProject = taskService.findByProjectId(5L, pageable);
+        Page<TaskView> byDeveloper = taskService.findByDeveloperId(5L, pageable);
+
+        assertThat(byProject.getContent()).extracting(TaskView::id).containsExactly(1L);
+        assertThat(byDeveloper.getContent()).extracting(TaskView::id).containsExactly(2L);
+        assertThat(taskService.findByProjectId(5L, pageable)).isSameAs(byProject);
+        assertThat(taskService.findByDeveloperId(5L, pageable)).isSameAs(byDeveloper);
+
+        verify(taskRepository, times(1)).findViewsByProjectId(5L, pageable);
+        verify(taskRepository, times(1)).findViewsByDeveloperId(5L, pageable);
+    }
+
+    @Test
+    void statusCountsAreLoadedOnce() {
+        List<Object[]> counts = List.<Object[]>of(new Object[]{TaskStatus.TODO, 4L});
+        when(taskRepository.countTasksByStatus()).thenReturn(counts);
+
+        List<Object[]> cachedCounts = taskService.getTaskCountsByStatus();
+
+        assertThat(cachedCounts).isSameAs(counts);
+        assertThat(taskService.getTaskCountsByStatus()).isSameAs(cachedCounts);
+        verify(taskRepository, times(1)).countTasksByStatus();
+    }
+
+    @Test
+    void everyQueryShapeHasADistinctKeyAndCache() {
+        List<TaskCacheKey> keys = List.of(
+                TaskCacheKey.byId(5L),
+                TaskCacheKey.page(pageable),
+                TaskCacheKey.byProject(5L, pageable),
+                TaskCacheKey.byDeveloper(5L, pageable),
+                TaskCacheKey.statusCounts(),
+                TaskCacheKey.projectSummary(5L));
+
+        assertThat(new HashSet<>(keys)).hasSize(TaskCacheKey.TaskQuery.values().length);
+        Set<String> cacheNames = new HashSet<>();
+        Arrays.stream(TaskCacheKey.TaskQuery.values()).forEach(query -> cacheNames.add(query.getCacheName()));
+        assertThat(cacheNames).hasSize(TaskCacheKey.TaskQuery.values().length);
+        assertThat(cacheManager.getCacheNames()).containsAll(cacheNames);
+    }
+
+    @Test
+    void pagesOfTheSameScopeDoNotShareEntries() {
+        Pageable secondPage = PageRequest.of(1, 10);
+        Page<TaskView> first = new PageImpl<>(List.of(view(1L, "first")));
+        Page<TaskView> second = new PageImpl<>(List.of(view(2L, "second")));
+        when(taskRepository.findViewsByProjectId(5L, pageable)).thenReturn(first);
+        when(taskRepository.findViewsByProjectId(5L, secondPage)).thenReturn(second);
+
+        assertThat(taskService.findByProjectId(5L, pageable).getContent()).extracting(TaskView::id).containsExactly(1L);
+        assertThat(taskService.findByProjectId(5L, secondPage).getContent()).extracting(TaskView::id).containsExactly(2L);
+    }
+
+    private static TaskView view(Long id, String title) {
+        return new TaskView(id, title, null, TaskStatus.TODO, null, null, null, null, null, 5L, null, null, null);
+    }
+}